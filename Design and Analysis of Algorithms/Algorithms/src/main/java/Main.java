@@ -1,10 +1,26 @@
 import interfaces.Find;
+import interfaces.MultiSelect;
 import interfaces.Select;
 import interfaces.Sort;
+import metrics.InstrumentedSort;
+import metrics.MetricsRecorder;
+import usecases.AdaptiveSort;
 import usecases.ClosestPair;
 import usecases.DeterministicSelect;
+import usecases.GridClosestPair;
+import usecases.IndexedClosestPair;
+import usecases.IntroMultiSelect;
+import usecases.IntroSelect;
+import usecases.IntroSort;
+import usecases.KdTree;
+import usecases.KllSketch;
 import usecases.MergeSort;
+import usecases.ParallelClosestPair;
+import usecases.ParallelMergeSort;
+import usecases.ParallelQuickSort;
+import usecases.PowerSort;
 import usecases.QuickSort;
+import usecases.RadixSort;
 
 import java.util.Arrays;
 
@@ -13,7 +29,12 @@ public class Main {
     public static void main(String[] args) {
         Sort mergeSorter = new MergeSort();
         Sort quickSorter = new QuickSort();
+        Sort parallelMergeSorter = new ParallelMergeSort();
+        Sort introSorter = new IntroSort();
+        Sort parallelQuickSorter = new ParallelQuickSort();
         Select deterministicSelect = new DeterministicSelect();
+        Select introSelect = new IntroSelect();
+        MultiSelect multiSelect = new IntroMultiSelect();
         Find closestPair = new ClosestPair();
 
         int[] arr = {38, 27, 43, 10};
@@ -24,13 +45,65 @@ public class Main {
         quickSorter.sort(arr2, 0, arr2.length - 1);
         System.out.println("Sorted array by quick sort: " + Arrays.toString(arr2));
 
+        int[] arr4 = {38, 27, 43, 10};
+        parallelMergeSorter.sort(arr4, 0, arr4.length - 1);
+        System.out.println("Sorted array by parallel merge sort: " + Arrays.toString(arr4));
+
+        int[] arr5 = {38, 27, 43, 10};
+        introSorter.sort(arr5, 0, arr5.length - 1);
+        System.out.println("Sorted array by introsort: " + Arrays.toString(arr5));
+
+        int[] arr6 = {38, 27, 43, 10};
+        parallelQuickSorter.sort(arr6, 0, arr6.length - 1);
+        System.out.println("Sorted array by parallel quick sort: " + Arrays.toString(arr6));
+
+        int[] arr9 = {38, -27, 43, 10};
+        new RadixSort().sort(arr9, 0, arr9.length - 1);
+        System.out.println("Sorted array by radix sort: " + Arrays.toString(arr9));
+
+        int[] arr10 = {10, 27, 38, 43, 5, 4, 3, 1, 2};
+        new PowerSort().sort(arr10, 0, arr10.length - 1);
+        System.out.println("Sorted array by PowerSort: " + Arrays.toString(arr10));
+
+        int[] arr11 = {38, 27, 43, 10};
+        new AdaptiveSort(decision -> System.out.println("Adaptive sort decision: " + decision))
+                .sort(arr11, 0, arr11.length - 1);
+        System.out.println("Sorted array by adaptive sort: " + Arrays.toString(arr11));
+
+        MetricsRecorder recorder = new MetricsRecorder();
+        int[] arr12 = {38, 27, 43, 10};
+        new InstrumentedSort(mergeSorter, recorder).sort(arr12, 0, arr12.length - 1);
+        System.out.print("Merge sort metrics:\n" + recorder.toCsv());
+
         int[] arr3 = {38, 27, 43, 10};
         int selectResult = deterministicSelect.select(arr3, 3);
         System.out.println("Select result: " + selectResult);
 
+        int[] arr7 = {38, 27, 43, 10};
+        System.out.println("Introselect result: " + introSelect.select(arr7, 3));
+
+        int[] arr8 = {38, 27, 43, 10};
+        System.out.println("Multiselect result for ranks 1, 2, 4: "
+                + Arrays.toString(multiSelect.select(arr8, new int[]{1, 2, 4})));
+
+        KllSketch sketch = new KllSketch();
+        sketch.update(new int[]{38, 27, 43, 10});
+        System.out.println("Sketch median estimate: " + sketch.quantile(0.5));
+
         double[][] points = {{-1, -2}, {0, 0}, {1, 2}, {2, 3}};
         double closestDistance = closestPair.find(points);
         System.out.println("Closest pair distance: " + closestDistance);
+
+        IndexedClosestPair indexedClosestPair = new IndexedClosestPair();
+        double[] xs = {-1, 0, 1, 2};
+        double[] ys = {-2, 0, 2, 3};
+        System.out.println("Closest pair (indices and distance): " + indexedClosestPair.find(xs, ys));
+        System.out.println("Parallel closest pair: " + new ParallelClosestPair().find(xs, ys));
+        System.out.println("Randomized grid closest pair: " + new GridClosestPair().find(xs, ys));
+
+        KdTree kdTree = KdTree.of(xs, ys);
+        System.out.println("Nearest point to (0.9, 1.5): " + kdTree.nearest(new double[]{0.9, 1.5}));
+        System.out.println("All nearest neighbours: " + Arrays.toString(kdTree.allNearestNeighbours()));
     }
 }
 
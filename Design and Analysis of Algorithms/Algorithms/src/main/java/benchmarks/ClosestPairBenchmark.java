@@ -0,0 +1,107 @@
+package benchmarks;
+
+import usecases.ClosestPair;
+import usecases.GridClosestPair;
+import usecases.IndexedClosestPair;
+import usecases.ParallelClosestPair;
+
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Compares the baseline divide and conquer on point arrays with the indexed,
+ * fork/join and randomized grid closest pair engines on uniform, clustered and
+ * collinear point sets.
+ * Sizes are taken from the command line (default 10^5 and 10^6).
+ */
+public final class ClosestPairBenchmark {
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    public static void main(String[] args) {
+        long[] sizes = args.length > 0 ? ParallelSortBenchmark.parseSizes(args) : new long[]{100_000L, 1_000_000L};
+
+        ClosestPair baseline = new ClosestPair();
+        IndexedClosestPair sequential = new IndexedClosestPair();
+        ParallelClosestPair parallel = new ParallelClosestPair();
+        GridClosestPair grid = new GridClosestPair(42);
+
+        System.out.println("Algorithm,Distribution,Size,Average_ms,Distance");
+        for (long size : sizes) {
+            int n = (int) size;
+            for (String distribution : new String[]{"uniform", "clustered", "collinear"}) {
+                double[] xs = new double[n];
+                double[] ys = new double[n];
+                generate(distribution, xs, ys, 42);
+                double[][] points = new double[n][];
+                for (int i = 0; i < n; i++) {
+                    points[i] = new double[]{xs[i], ys[i]};
+                }
+
+                // The baseline sorts its argument, so every call gets a fresh copy of the references.
+                run("DivideAndConquer", distribution, xs, ys, (x, y) -> baseline.find(points.clone()));
+                run("IndexedDivideAndConquer", distribution, xs, ys, (x, y) -> sequential.find(x, y).distance);
+                run("ParallelDivideAndConquer", distribution, xs, ys, (x, y) -> parallel.find(x, y).distance);
+                run("RandomizedGrid", distribution, xs, ys, (x, y) -> grid.find(x, y).distance);
+            }
+        }
+    }
+
+    private static void run(String name, String distribution, double[] xs, double[] ys,
+                            ToDoubleBiFunction<double[], double[]> engine) {
+        double distance = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            distance = engine.applyAsDouble(xs, ys);
+        }
+
+        long total = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            distance = engine.applyAsDouble(xs, ys);
+            total += System.nanoTime() - start;
+        }
+        System.out.printf("%s,%s,%d,%.3f,%.9f%n", name, distribution, xs.length,
+                total / (double) MEASUREMENT_ITERATIONS / 1_000_000.0, distance);
+    }
+
+    static void generate(String distribution, double[] xs, double[] ys, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int n = xs.length;
+        switch (distribution) {
+            case "uniform" -> {
+                for (int i = 0; i < n; i++) {
+                    xs[i] = random.nextDouble() * 1_000_000;
+                    ys[i] = random.nextDouble() * 1_000_000;
+                }
+            }
+            case "clustered" -> {
+                int clusters = Math.max(1, n / 10_000);
+                double[] cx = new double[clusters];
+                double[] cy = new double[clusters];
+                for (int c = 0; c < clusters; c++) {
+                    cx[c] = random.nextDouble() * 1_000_000;
+                    cy[c] = random.nextDouble() * 1_000_000;
+                }
+                for (int i = 0; i < n; i++) {
+                    int c = random.nextInt(clusters);
+                    xs[i] = cx[c] + gaussian(random) * 100;
+                    ys[i] = cy[c] + gaussian(random) * 100;
+                }
+            }
+            case "collinear" -> {
+                for (int i = 0; i < n; i++) {
+                    double t = random.nextDouble() * 1_000_000;
+                    xs[i] = t;
+                    ys[i] = 0.5 * t + 10;
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        }
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+}
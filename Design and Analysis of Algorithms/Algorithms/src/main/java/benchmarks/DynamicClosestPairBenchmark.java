@@ -0,0 +1,69 @@
+package benchmarks;
+
+import usecases.DynamicClosestPair;
+import usecases.GridClosestPair;
+
+import java.util.SplittableRandom;
+
+/**
+ * Moves random points of a steady population in {@link DynamicClosestPair}, one
+ * deletion and one insertion per move, and queries the closest distance after every
+ * event. Reports
+ * events per second, next to re-running {@link GridClosestPair} over the whole set
+ * after each event. Populations are taken from the command line (default 10^4 and 10^5).
+ */
+public final class DynamicClosestPairBenchmark {
+    private static final int EVENTS = 1_000_000;
+    private static final int RECOMPUTE_EVENTS = 200;
+
+    public static void main(String[] args) {
+        long[] sizes = args.length > 0 ? ParallelSortBenchmark.parseSizes(args) : new long[]{10_000L, 100_000L};
+
+        System.out.println("Algorithm,Population,Events,Events_per_second");
+        for (long size : sizes) {
+            int n = (int) size;
+            SplittableRandom random = new SplittableRandom(42);
+
+            DynamicClosestPair tracker = new DynamicClosestPair();
+            int[] handles = new int[n];
+            double[] xs = new double[n];
+            double[] ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                xs[i] = random.nextDouble();
+                ys[i] = random.nextDouble();
+                handles[i] = tracker.insert(xs[i], ys[i]);
+            }
+            tracker.distance();
+
+            // A vehicle reporting a new position is a deletion followed by an insertion.
+            double checksum = 0;
+            long start = System.nanoTime();
+            for (int event = 0; event < EVENTS; event += 2) {
+                int victim = random.nextInt(n);
+                tracker.delete(handles[victim]);
+                checksum += tracker.distance();
+
+                xs[victim] = random.nextDouble();
+                ys[victim] = random.nextDouble();
+                handles[victim] = tracker.insert(xs[victim], ys[victim]);
+                checksum += tracker.distance();
+            }
+            report("DynamicClosestPair", n, EVENTS, System.nanoTime() - start);
+
+            GridClosestPair grid = new GridClosestPair(42);
+            start = System.nanoTime();
+            for (int event = 0; event < RECOMPUTE_EVENTS; event++) {
+                int victim = random.nextInt(n);
+                xs[victim] = random.nextDouble();
+                ys[victim] = random.nextDouble();
+                checksum += grid.find(xs, ys).distance;
+            }
+            report("GridClosestPair_recompute", n, RECOMPUTE_EVENTS, System.nanoTime() - start);
+            if (checksum < 0) System.out.println(checksum);
+        }
+    }
+
+    private static void report(String name, int population, int events, long nanos) {
+        System.out.printf("%s,%d,%d,%.0f%n", name, population, events, events / (nanos / 1_000_000_000.0));
+    }
+}
@@ -0,0 +1,86 @@
+package benchmarks;
+
+import interfaces.Sort;
+import usecases.ParallelMergeSort;
+import usecases.ParallelQuickSort;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Measures how the parallel sorts scale with the number of worker threads.
+ * Sizes are taken from the command line (default 10^7 and 10^8); 10^9 needs
+ * a heap of roughly 12 GB (source, working copy and the merge sort scratch buffer).
+ */
+public final class ParallelSortBenchmark {
+    private static final int WARMUP_ITERATIONS = 1;
+    private static final int MEASUREMENT_ITERATIONS = 3;
+
+    public static void main(String[] args) {
+        long[] sizes = args.length > 0 ? parseSizes(args) : new long[]{10_000_000L, 100_000_000L};
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("Algorithm,Size,Threads,Average_ms,Speedup");
+        for (long size : sizes) {
+            if (size > Integer.MAX_VALUE - 8) {
+                System.err.println("Skipping size " + size + ": exceeds int[] capacity");
+                continue;
+            }
+            int[] source = randomArray((int) size, 42);
+
+            run("ParallelQuickSort", source, maxThreads, pool -> new ParallelQuickSort(pool, 1 << 14));
+            run("ParallelMergeSort", source, maxThreads, pool -> new ParallelMergeSort(pool, 1 << 13));
+        }
+    }
+
+    private static void run(String name, int[] source, int maxThreads, Function<ForkJoinPool, Sort> factory) {
+        double baseline = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                Sort sorter = factory.apply(pool);
+                double average = measure(sorter, source);
+                if (threads == 1) baseline = average;
+                System.out.printf("%s,%d,%d,%.3f,%.2f%n", name, source.length, threads, average, baseline / average);
+            } finally {
+                pool.shutdown();
+            }
+            if (threads == maxThreads) break;
+        }
+    }
+
+    private static double measure(Sort sorter, int[] source) {
+        int[] work = new int[source.length];
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            System.arraycopy(source, 0, work, 0, source.length);
+            sorter.sort(work, 0, work.length - 1);
+        }
+
+        long total = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            System.arraycopy(source, 0, work, 0, source.length);
+            long start = System.nanoTime();
+            sorter.sort(work, 0, work.length - 1);
+            total += System.nanoTime() - start;
+        }
+        return total / (double) MEASUREMENT_ITERATIONS / 1_000_000.0;
+    }
+
+    static int[] randomArray(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = random.nextInt();
+        }
+        return arr;
+    }
+
+    static long[] parseSizes(String[] args) {
+        long[] sizes = new long[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = (long) Double.parseDouble(args[i]);
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,61 @@
+package benchmarks;
+
+import interfaces.Sort;
+import usecases.AdaptiveSort;
+import usecases.IntroSort;
+import usecases.MergeSort;
+import usecases.RadixSort;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Single-threaded comparison of the sorts on uniformly random 32-bit keys, with
+ * speedup reported relative to {@link MergeSort}. Sizes are taken from the command
+ * line (default 10^7); pass 1e8 for the headline radix sort numbers.
+ */
+public final class SortBenchmark {
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    public static void main(String[] args) {
+        long[] sizes = args.length > 0 ? ParallelSortBenchmark.parseSizes(args) : new long[]{10_000_000L};
+
+        Map<String, Sort> sorters = new LinkedHashMap<>();
+        sorters.put("MergeSort", new MergeSort());
+        sorters.put("IntroSort", new IntroSort());
+        sorters.put("RadixSort_LSD", new RadixSort(RadixSort.Mode.LSD));
+        sorters.put("RadixSort_MSD", new RadixSort(RadixSort.Mode.MSD));
+        sorters.put("AdaptiveSort", new AdaptiveSort());
+        sorters.put("Arrays.sort", (arr, low, high) -> Arrays.sort(arr, low, high + 1));
+
+        System.out.println("Algorithm,Size,Average_ms,Speedup_vs_MergeSort");
+        for (long size : sizes) {
+            int[] source = ParallelSortBenchmark.randomArray((int) size, 42);
+            double baseline = 0;
+            for (Map.Entry<String, Sort> entry : sorters.entrySet()) {
+                double average = measure(entry.getValue(), source);
+                if (baseline == 0) baseline = average;
+                System.out.printf("%s,%d,%.3f,%.2f%n", entry.getKey(), source.length, average, baseline / average);
+            }
+        }
+    }
+
+    static double measure(Sort sorter, int[] source) {
+        int[] work = new int[source.length];
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            System.arraycopy(source, 0, work, 0, source.length);
+            sorter.sort(work, 0, work.length - 1);
+        }
+
+        long total = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            System.arraycopy(source, 0, work, 0, source.length);
+            long start = System.nanoTime();
+            sorter.sort(work, 0, work.length - 1);
+            total += System.nanoTime() - start;
+        }
+        return total / (double) MEASUREMENT_ITERATIONS / 1_000_000.0;
+    }
+}
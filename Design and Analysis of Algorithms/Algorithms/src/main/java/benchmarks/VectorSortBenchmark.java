@@ -0,0 +1,49 @@
+package benchmarks;
+
+import interfaces.Sort;
+import usecases.IntroSort;
+import usecases.QuickSort;
+import usecases.VectorQuickSort;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares {@link VectorQuickSort} against the scalar partitions of {@link QuickSort}
+ * (Lomuto) and {@link IntroSort} (three-way) on uniformly random keys and on keys
+ * drawn from a small range. Run with {@code --add-modules jdk.incubator.vector}.
+ */
+public final class VectorSortBenchmark {
+
+    public static void main(String[] args) {
+        long[] sizes = args.length > 0 ? ParallelSortBenchmark.parseSizes(args) : new long[]{1_000_000L, 10_000_000L};
+
+        Map<String, Sort> sorters = new LinkedHashMap<>();
+        sorters.put("QuickSort", new QuickSort());
+        sorters.put("IntroSort", new IntroSort());
+        sorters.put("VectorQuickSort", new VectorQuickSort());
+
+        System.out.println("Vectorized: " + VectorQuickSort.isVectorized());
+        System.out.println("Algorithm,Distribution,Size,Average_ms,Speedup_vs_QuickSort");
+        for (long size : sizes) {
+            int[] uniform = ParallelSortBenchmark.randomArray((int) size, 42);
+            int[] fewDistinct = uniform.clone();
+            for (int i = 0; i < fewDistinct.length; i++) {
+                fewDistinct[i] &= 1023;
+            }
+
+            run(sorters, "uniform", uniform);
+            run(sorters, "few_distinct", fewDistinct);
+        }
+    }
+
+    private static void run(Map<String, Sort> sorters, String distribution, int[] source) {
+        double baseline = 0;
+        for (Map.Entry<String, Sort> entry : sorters.entrySet()) {
+            double average = SortBenchmark.measure(entry.getValue(), source);
+            if (baseline == 0) baseline = average;
+            System.out.printf("%s,%s,%d,%.3f,%.2f%n",
+                    entry.getKey(), distribution, source.length, average, baseline / average);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package entities;
+
+public final class PointPair {
+    public final int first;
+    public final int second;
+    public final double distance;
+
+    public PointPair(int first, int second, double distance) {
+        this.first = first;
+        this.second = second;
+        this.distance = distance;
+    }
+
+    @Override
+    public String toString() {
+        return first + " - " + second + ": " + distance;
+    }
+}
@@ -0,0 +1,5 @@
+package interfaces;
+
+public interface DoubleSort {
+    void sort(double[] arr, int low, int high);
+}
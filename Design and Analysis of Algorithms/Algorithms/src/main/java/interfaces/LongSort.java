@@ -0,0 +1,5 @@
+package interfaces;
+
+public interface LongSort {
+    void sort(long[] arr, int low, int high);
+}
@@ -0,0 +1,7 @@
+package interfaces;
+
+public interface MultiSelect extends Select {
+    int[] select(int[] arr, int[] ks);
+
+    void nthElement(int[] arr, int[] ks);
+}
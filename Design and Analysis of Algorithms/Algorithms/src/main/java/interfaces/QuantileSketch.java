@@ -0,0 +1,13 @@
+package interfaces;
+
+public interface QuantileSketch {
+    void update(int value);
+
+    void update(int[] values);
+
+    long count();
+
+    int select(long k);
+
+    long rank(int value);
+}
@@ -0,0 +1,7 @@
+package interfaces;
+
+import java.lang.foreign.MemorySegment;
+
+public interface SegmentSelect {
+    int select(MemorySegment segment, long k);
+}
@@ -0,0 +1,11 @@
+package interfaces;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Sorts the 32-bit ints (native byte order) of a {@link MemorySegment}, with long
+ * element indices so that ranges past 2^31 elements can be addressed.
+ */
+public interface SegmentSort {
+    void sort(MemorySegment segment, long low, long high);
+}
@@ -0,0 +1,25 @@
+package metrics;
+
+import interfaces.Find;
+
+/**
+ * Records time, allocation and {@link Probe} counters for every call to the wrapped
+ * closest-pair search. Only {@code ClosestPair} calls the probes; any other search is
+ * still timed, but its counters stay zero.
+ */
+public final class InstrumentedFind implements Find {
+    private final Find delegate;
+    private final MetricsRecorder recorder;
+    private final String name;
+
+    public InstrumentedFind(Find delegate, MetricsRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+        this.name = delegate.getClass().getSimpleName();
+    }
+
+    @Override
+    public double find(double[][] points) {
+        return recorder.measure(name, "find", points.length, () -> delegate.find(points));
+    }
+}
@@ -0,0 +1,25 @@
+package metrics;
+
+import interfaces.Select;
+
+/**
+ * Records time, allocation and {@link Probe} counters for every call to the wrapped
+ * select. Only {@code DeterministicSelect} calls the probes; any other select is
+ * still timed, but its counters stay zero.
+ */
+public final class InstrumentedSelect implements Select {
+    private final Select delegate;
+    private final MetricsRecorder recorder;
+    private final String name;
+
+    public InstrumentedSelect(Select delegate, MetricsRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+        this.name = delegate.getClass().getSimpleName();
+    }
+
+    @Override
+    public int select(int[] arr, int k) {
+        return recorder.measure(name, "select", arr.length, () -> delegate.select(arr, k));
+    }
+}
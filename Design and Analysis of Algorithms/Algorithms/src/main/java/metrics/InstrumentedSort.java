@@ -0,0 +1,28 @@
+package metrics;
+
+import interfaces.Sort;
+
+/**
+ * Records time, allocation and {@link Probe} counters for every call to the wrapped
+ * sort. Only {@code MergeSort} and {@code QuickSort} call the probes; any other sort
+ * is still timed, but its comparison, swap, move and depth counters stay zero.
+ */
+public final class InstrumentedSort implements Sort {
+    private final Sort delegate;
+    private final MetricsRecorder recorder;
+    private final String name;
+
+    public InstrumentedSort(Sort delegate, MetricsRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+        this.name = delegate.getClass().getSimpleName();
+    }
+
+    @Override
+    public void sort(int[] arr, int low, int high) {
+        recorder.measure(name, "sort", Math.max(0, high - low + 1), () -> {
+            delegate.sort(arr, low, high);
+            return null;
+        });
+    }
+}
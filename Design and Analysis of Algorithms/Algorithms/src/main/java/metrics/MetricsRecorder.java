@@ -0,0 +1,90 @@
+package metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Collects one {@link OperationMetrics} per call made through the instrumented
+ * decorators and exports them as CSV or JSON. Safe to share between threads.
+ */
+public final class MetricsRecorder {
+    private static final com.sun.management.ThreadMXBean ALLOCATION = allocationBean();
+
+    private final List<OperationMetrics> metrics = new ArrayList<>();
+
+    <T> T measure(String algorithm, String operation, int inputSize, Supplier<T> call) {
+        Probe.Counters previous = Probe.ENABLED ? Probe.begin() : null;
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long allocatedAfter = allocatedBytes();
+            long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+
+            Probe.Counters counters = Probe.ENABLED ? Probe.end(previous) : new Probe.Counters();
+            record(new OperationMetrics(algorithm, operation, inputSize, counters.comparisons, counters.swaps,
+                    counters.moves, counters.maxDepth, allocated, elapsed));
+        }
+        return result;
+    }
+
+    public synchronized void record(OperationMetrics metric) {
+        metrics.add(metric);
+    }
+
+    public synchronized List<OperationMetrics> getMetrics() {
+        return new ArrayList<>(metrics);
+    }
+
+    public synchronized void clear() {
+        metrics.clear();
+    }
+
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder(OperationMetrics.CSV_HEADER).append('\n');
+        for (OperationMetrics metric : getMetrics()) {
+            sb.append(metric.toCsvRow()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("[");
+        List<OperationMetrics> snapshot = getMetrics();
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append('\n').append("  ").append(snapshot.get(i).toJson());
+        }
+        return sb.append(snapshot.isEmpty() ? "]" : "\n]").append('\n').toString();
+    }
+
+    public void exportCsv(Path file) throws IOException {
+        Files.writeString(file, toCsv());
+    }
+
+    public void exportJson(Path file) throws IOException {
+        Files.writeString(file, toJson());
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATION == null ? -1 : ALLOCATION.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+            return sunBean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package metrics;
+
+import java.util.Locale;
+
+/**
+ * Counters and costs of one instrumented call. Comparisons, swaps, moves and depth
+ * are zero unless {@link Probe#ENABLED}; allocated bytes are -1 when the JVM cannot
+ * measure per-thread allocation.
+ */
+public final class OperationMetrics {
+    public static final String CSV_HEADER =
+            "Algorithm,Operation,Input_Size,Comparisons,Swaps,Moves,Max_Depth,Allocated_Bytes,Time_ms";
+
+    private final String algorithm;
+    private final String operation;
+    private final int inputSize;
+    private final long comparisons;
+    private final long swaps;
+    private final long moves;
+    private final int maxDepth;
+    private final long allocatedBytes;
+    private final long elapsedNanos;
+
+    OperationMetrics(String algorithm, String operation, int inputSize, long comparisons, long swaps,
+                     long moves, int maxDepth, long allocatedBytes, long elapsedNanos) {
+        this.algorithm = algorithm;
+        this.operation = operation;
+        this.inputSize = inputSize;
+        this.comparisons = comparisons;
+        this.swaps = swaps;
+        this.moves = moves;
+        this.maxDepth = maxDepth;
+        this.allocatedBytes = allocatedBytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getAlgorithm() { return algorithm; }
+    public String getOperation() { return operation; }
+    public int getInputSize() { return inputSize; }
+    public long getComparisons() { return comparisons; }
+    public long getSwaps() { return swaps; }
+    public long getMoves() { return moves; }
+    public int getMaxDepth() { return maxDepth; }
+    public long getAllocatedBytes() { return allocatedBytes; }
+    public double getElapsedMs() { return elapsedNanos / 1_000_000.0; }
+
+    public String toCsvRow() {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%d,%d,%.3f",
+                algorithm, operation, inputSize, comparisons, swaps, moves, maxDepth, allocatedBytes, getElapsedMs());
+    }
+
+    public String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"algorithm\":\"%s\",\"operation\":\"%s\",\"inputSize\":%d,\"comparisons\":%d,\"swaps\":%d,"
+                        + "\"moves\":%d,\"maxDepth\":%d,\"allocatedBytes\":%d,\"timeMs\":%.3f}",
+                algorithm, operation, inputSize, comparisons, swaps, moves, maxDepth, allocatedBytes, getElapsedMs());
+    }
+
+    @Override
+    public String toString() {
+        return toCsvRow();
+    }
+}
@@ -0,0 +1,62 @@
+package metrics;
+
+/**
+ * Operation counters that the algorithms call from their inner loops. Counting is
+ * switched on with {@code -Dalgorithms.metrics=true}; otherwise {@link #ENABLED} is a
+ * constant {@code false} and the JIT removes every call, so uninstrumented runs pay
+ * nothing. Counts go to the calling thread, so work done on pool threads is not
+ * attributed to the caller.
+ */
+public final class Probe {
+    public static final boolean ENABLED = Boolean.getBoolean("algorithms.metrics");
+
+    private static final ThreadLocal<Counters> CURRENT = ThreadLocal.withInitial(Counters::new);
+
+    private Probe() {
+    }
+
+    public static void comparison() {
+        if (ENABLED) CURRENT.get().comparisons++;
+    }
+
+    public static void swap() {
+        if (ENABLED) CURRENT.get().swaps++;
+    }
+
+    public static void move() {
+        if (ENABLED) CURRENT.get().moves++;
+    }
+
+    public static void enter() {
+        if (ENABLED) {
+            Counters counters = CURRENT.get();
+            if (++counters.depth > counters.maxDepth) counters.maxDepth = counters.depth;
+        }
+    }
+
+    public static void exit() {
+        if (ENABLED) CURRENT.get().depth--;
+    }
+
+    // Installs fresh counters for the calling thread and returns the ones they replace.
+    static Counters begin() {
+        Counters previous = CURRENT.get();
+        CURRENT.set(new Counters());
+        return previous;
+    }
+
+    // Restores the counters returned by begin() and returns the ones collected since.
+    static Counters end(Counters previous) {
+        Counters collected = CURRENT.get();
+        CURRENT.set(previous);
+        return collected;
+    }
+
+    static final class Counters {
+        long comparisons;
+        long swaps;
+        long moves;
+        int depth;
+        int maxDepth;
+    }
+}
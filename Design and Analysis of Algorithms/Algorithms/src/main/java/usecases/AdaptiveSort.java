@@ -0,0 +1,187 @@
+package usecases;
+
+import interfaces.Sort;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Sort dispatcher that profiles each range from a strided sample before choosing a
+ * sort. The sample estimates how often adjacent keys descend (run structure), how
+ * many keys repeat and how wide the key span is. Tiny ranges use insertion sort,
+ * nearly sorted or reversed ranges use {@link PowerSort}, narrow spans use counting
+ * sort, duplicate-heavy ranges use the three-way {@link IntroSort}, and large random
+ * ranges use LSD {@link RadixSort}.
+ *
+ * <p>Every call produces a {@link Decision} with the profile, the chosen strategy
+ * and the elapsed time. Decisions go to an optional listener and are summed per
+ * strategy, so the dispatch rules can be tuned from real traffic.
+ *
+ * <p>One instance can be shared between threads: the delegate sorts keep no state
+ * between calls and the totals are atomic. The listener must be thread-safe too.
+ */
+public final class AdaptiveSort implements Sort {
+    public enum Strategy {INSERTION, MERGE, COUNTING, QUICK, RADIX}
+
+    private static final int INSERTION_THRESHOLD = 32;
+    private static final int SAMPLE_SIZE = 256;
+    private static final int RADIX_THRESHOLD = 1 << 16;
+    private static final double PRESORTED_RATIO = 1.0 / 64;
+    private static final double DUPLICATE_RATIO = 0.5;
+    private static final int MAX_COUNTING_SPAN = 1 << 22;
+
+    private final Sort merge = new PowerSort();
+    private final Sort quick = new IntroSort();
+    private final Sort radix = new RadixSort(RadixSort.Mode.LSD);
+    private final Consumer<Decision> listener;
+    private final AtomicLongArray calls = new AtomicLongArray(Strategy.values().length);
+    private final AtomicLongArray nanos = new AtomicLongArray(Strategy.values().length);
+
+    public AdaptiveSort() {
+        this(null);
+    }
+
+    public AdaptiveSort(Consumer<Decision> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void sort(int[] arr, int low, int high) {
+        if (low >= high) return;
+
+        long start = System.nanoTime();
+        Decision decision = profile(arr, low, high);
+        switch (decision.strategy) {
+            case INSERTION -> insertionSort(arr, low, high);
+            case MERGE -> merge.sort(arr, low, high);
+            case COUNTING -> countingSort(arr, low, high, decision.min, decision.span);
+            case QUICK -> quick.sort(arr, low, high);
+            case RADIX -> radix.sort(arr, low, high);
+        }
+        decision.elapsedNanos = System.nanoTime() - start;
+
+        calls.incrementAndGet(decision.strategy.ordinal());
+        nanos.addAndGet(decision.strategy.ordinal(), decision.elapsedNanos);
+        if (listener != null) listener.accept(decision);
+    }
+
+    public long getCalls(Strategy strategy) {
+        return calls.get(strategy.ordinal());
+    }
+
+    public double getTotalMs(Strategy strategy) {
+        return nanos.get(strategy.ordinal()) / 1_000_000.0;
+    }
+
+    private static Decision profile(int[] arr, int low, int high) {
+        int n = high - low + 1;
+        Decision decision = new Decision(n);
+        if (n <= INSERTION_THRESHOLD) {
+            decision.strategy = Strategy.INSERTION;
+            return decision;
+        }
+
+        // Adjacent pairs at evenly spaced positions: their order estimates the run structure.
+        int samples = Math.min(SAMPLE_SIZE, n - 1);
+        long stride = (long) (n - 1) / samples;
+        int[] sample = new int[samples];
+        int descents = 0, ascents = 0;
+        for (int s = 0; s < samples; s++) {
+            int i = low + (int) (s * stride);
+            sample[s] = arr[i];
+            if (arr[i + 1] < arr[i]) descents++;
+            else if (arr[i + 1] > arr[i]) ascents++;
+        }
+        decision.descentRatio = (double) descents / samples;
+        if (Math.min(descents, ascents) <= samples * PRESORTED_RATIO) {
+            decision.strategy = Strategy.MERGE;
+            return decision;
+        }
+
+        Arrays.sort(sample);
+        int repeats = 0;
+        for (int s = 1; s < samples; s++) {
+            if (sample[s] == sample[s - 1]) repeats++;
+        }
+        decision.duplicateRatio = (double) repeats / samples;
+        decision.min = sample[0];
+        decision.span = (long) sample[samples - 1] - sample[0] + 1;
+
+        // The sampled span is a lower bound; confirm it with a full scan before counting.
+        if (decision.span <= Math.min(n, MAX_COUNTING_SPAN)) {
+            int min = arr[low], max = arr[low];
+            for (int i = low + 1; i <= high; i++) {
+                int value = arr[i];
+                if (value < min) min = value;
+                else if (value > max) max = value;
+            }
+            decision.min = min;
+            decision.span = (long) max - min + 1;
+            if (decision.span <= Math.min(n, MAX_COUNTING_SPAN)) {
+                decision.strategy = Strategy.COUNTING;
+                return decision;
+            }
+        }
+
+        if (decision.duplicateRatio >= DUPLICATE_RATIO || n < RADIX_THRESHOLD) {
+            decision.strategy = Strategy.QUICK;
+        } else {
+            decision.strategy = Strategy.RADIX;
+        }
+        return decision;
+    }
+
+    private static void countingSort(int[] arr, int low, int high, int min, long span) {
+        int[] counts = new int[(int) span];
+        for (int i = low; i <= high; i++) {
+            counts[arr[i] - min]++;
+        }
+        int k = low;
+        for (int v = 0; v < counts.length; v++) {
+            int value = min + v;
+            for (int c = counts[v]; c > 0; c--) {
+                arr[k++] = value;
+            }
+        }
+    }
+
+    private static void insertionSort(int[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    public static final class Decision {
+        private final int size;
+        private Strategy strategy;
+        private double descentRatio;
+        private double duplicateRatio;
+        private int min;
+        private long span;
+        private long elapsedNanos;
+
+        private Decision(int size) {
+            this.size = size;
+        }
+
+        public int getSize() { return size; }
+        public Strategy getStrategy() { return strategy; }
+        public double getDescentRatio() { return descentRatio; }
+        public double getDuplicateRatio() { return duplicateRatio; }
+        public long getSpan() { return span; }
+        public double getElapsedMs() { return elapsedNanos / 1_000_000.0; }
+
+        @Override
+        public String toString() {
+            return String.format("strategy=%s, size=%d, descentRatio=%.3f, duplicateRatio=%.3f, span=%d, elapsed=%.3f ms",
+                    strategy, size, descentRatio, duplicateRatio, span, getElapsedMs());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package usecases;
+
+import java.util.Arrays;
+
+/**
+ * Sorting for column-wise records. {@code argsort} returns the stable permutation
+ * that orders the keys without touching them; the payload sorts reorder the keys
+ * and move an int column (such as a row id) alongside them. Doubles follow
+ * {@link Double#compare}.
+ */
+public final class ArgSort {
+    private static final int INSERTION_THRESHOLD = 32;
+
+    public int[] argsort(int[] keys) {
+        int[] order = identity(keys.length);
+        int[] buffer = order.clone();
+        sortIndices(buffer, order, 0, keys.length, (a, b) -> keys[a] > keys[b]);
+        return order;
+    }
+
+    public int[] argsort(long[] keys) {
+        int[] order = identity(keys.length);
+        int[] buffer = order.clone();
+        sortIndices(buffer, order, 0, keys.length, (a, b) -> keys[a] > keys[b]);
+        return order;
+    }
+
+    public int[] argsort(double[] keys) {
+        int[] order = identity(keys.length);
+        int[] buffer = order.clone();
+        sortIndices(buffer, order, 0, keys.length, (a, b) -> Double.compare(keys[a], keys[b]) > 0);
+        return order;
+    }
+
+    public void sort(long[] keys, int[] payload, int low, int high) {
+        checkPayload(keys.length, payload);
+        if (low >= high) return;
+
+        long[] keyScratch = Arrays.copyOfRange(keys, low, high + 1);
+        int[] payloadScratch = Arrays.copyOfRange(payload, low, high + 1);
+        sortInto(keyScratch, payloadScratch, 0, keys, payload, low, high - low + 1);
+    }
+
+    public void sort(double[] keys, int[] payload, int low, int high) {
+        checkPayload(keys.length, payload);
+        if (low >= high) return;
+
+        // Sorting the order-preserving bit patterns gives Double.compare order in one pass.
+        int n = high - low + 1;
+        long[] bits = new long[n];
+        for (int i = 0; i < n; i++) {
+            bits[i] = sortableBits(keys[low + i]);
+        }
+        int[] payloadCopy = Arrays.copyOfRange(payload, low, high + 1);
+
+        long[] keyScratch = bits.clone();
+        int[] payloadScratch = payloadCopy.clone();
+        sortInto(keyScratch, payloadScratch, 0, bits, payloadCopy, 0, n);
+
+        for (int i = 0; i < n; i++) {
+            keys[low + i] = fromSortableBits(bits[i]);
+        }
+        System.arraycopy(payloadCopy, 0, payload, low, n);
+    }
+
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static double fromSortableBits(long bits) {
+        return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
+    // Stable merge sort of (key, payload) pairs; both copies hold the same pairs on entry.
+    private static void sortInto(long[] srcKeys, int[] srcPayload, int srcOff,
+                                 long[] dstKeys, int[] dstPayload, int dstOff, int n) {
+        if (n <= INSERTION_THRESHOLD) {
+            for (int i = dstOff + 1; i < dstOff + n; i++) {
+                long key = dstKeys[i];
+                int value = dstPayload[i];
+                int j = i - 1;
+                while (j >= dstOff && dstKeys[j] > key) {
+                    dstKeys[j + 1] = dstKeys[j];
+                    dstPayload[j + 1] = dstPayload[j];
+                    j--;
+                }
+                dstKeys[j + 1] = key;
+                dstPayload[j + 1] = value;
+            }
+            return;
+        }
+
+        int half = n >>> 1;
+        sortInto(dstKeys, dstPayload, dstOff, srcKeys, srcPayload, srcOff, half);
+        sortInto(dstKeys, dstPayload, dstOff + half, srcKeys, srcPayload, srcOff + half, n - half);
+
+        int i = srcOff, mid = srcOff + half, j = mid, end = srcOff + n, k = dstOff;
+        while (i < mid && j < end) {
+            if (srcKeys[j] < srcKeys[i]) {
+                dstKeys[k] = srcKeys[j];
+                dstPayload[k++] = srcPayload[j++];
+            } else {
+                dstKeys[k] = srcKeys[i];
+                dstPayload[k++] = srcPayload[i++];
+            }
+        }
+        System.arraycopy(srcKeys, i, dstKeys, k, mid - i);
+        System.arraycopy(srcPayload, i, dstPayload, k, mid - i);
+        k += mid - i;
+        System.arraycopy(srcKeys, j, dstKeys, k, end - j);
+        System.arraycopy(srcPayload, j, dstPayload, k, end - j);
+    }
+
+    private interface IndexOrder {
+        boolean after(int a, int b);
+    }
+
+    // Stable merge sort of index ranges; src and dst hold the same indices on entry.
+    private static void sortIndices(int[] src, int[] dst, int from, int to, IndexOrder order) {
+        int n = to - from;
+        if (n <= INSERTION_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int index = dst[i];
+                int j = i - 1;
+                while (j >= from && order.after(dst[j], index)) {
+                    dst[j + 1] = dst[j];
+                    j--;
+                }
+                dst[j + 1] = index;
+            }
+            return;
+        }
+
+        int mid = from + (n >>> 1);
+        sortIndices(dst, src, from, mid, order);
+        sortIndices(dst, src, mid, to, order);
+
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) {
+            dst[k++] = order.after(src[i], src[j]) ? src[j++] : src[i++];
+        }
+        while (i < mid) dst[k++] = src[i++];
+        while (j < to) dst[k++] = src[j++];
+    }
+
+    private static int[] identity(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    private static void checkPayload(int keyLength, int[] payload) {
+        if (payload.length != keyLength) {
+            throw new IllegalArgumentException("keys and payload must have the same length");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package usecases;
 
 import interfaces.Find;
+import metrics.Probe;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -9,6 +10,7 @@ import java.util.List;
 
 public final class ClosestPair implements Find {
     private double distance(double[] p1, double[] p2) {
+        Probe.comparison();
         return Math.sqrt((p1[0] - p2[0]) * (p1[0] - p2[0]) +
                 (p1[1] - p2[1]) * (p1[1] - p2[1]));
     }
@@ -51,6 +53,7 @@ public final class ClosestPair implements Find {
             return minDist;
         }
 
+        Probe.enter();
         int mid = (left + right) / 2;
         double midX = points[mid][0];
 
@@ -68,6 +71,7 @@ public final class ClosestPair implements Find {
 
         double stripDist = stripClosest(strip.toArray(new double[strip.size()][]), d);
 
+        Probe.exit();
         return Math.min(d, stripDist);
     }
 
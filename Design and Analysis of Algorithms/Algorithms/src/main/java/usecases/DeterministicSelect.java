@@ -1,8 +1,7 @@
 package usecases;
 
 import interfaces.Select;
-import java.util.ArrayList;
-import java.util.Arrays;
+import metrics.Probe;
 
 public final class DeterministicSelect implements Select {
 
@@ -11,82 +10,76 @@ public final class DeterministicSelect implements Select {
         if (k < 1 || k > arr.length) {
             throw new IllegalArgumentException("k is out of bounds");
         }
-        return select(arr, 0, arr.length - 1, k - 1);
+        return arr[selectIndex(arr, 0, arr.length - 1, k - 1)];
     }
 
-    private int select(int[] arr, int start, int end, int kIndex) {
-        if (start == end) return arr[start];
+    // Rearranges arr[start..end] so that arr[kIndex] holds the value of that rank and returns kIndex.
+    static int selectIndex(int[] arr, int start, int end, int kIndex) {
+        while (start < end) {
+            int pivot = arr[findPivot(arr, start, end)];
 
-        int pivot = findPivot(arr, start, end);
-
-        int pivotPos = -1;
-        for (int i = start; i <= end; i++) {
-            if (arr[i] == pivot) {
-                pivotPos = i;
-                break;
+            // 3-way partition: [start, lt) < pivot, [lt, gt] == pivot, (gt, end] > pivot
+            int lt = start, i = start, gt = end;
+            while (i <= gt) {
+                int value = arr[i];
+                Probe.comparison();
+                if (value < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (value > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
             }
-        }
-        swap(arr, pivotPos, end);
-
-        int pivotIndex = partition(arr, start, end);
 
-        if (kIndex == pivotIndex) {
-            return arr[pivotIndex];
-        } else if (kIndex < pivotIndex) {
-            return select(arr, start, pivotIndex - 1, kIndex);
-        } else {
-            return select(arr, pivotIndex + 1, end, kIndex);
+            if (kIndex < lt) {
+                end = lt - 1;
+            } else if (kIndex > gt) {
+                start = gt + 1;
+            } else {
+                return kIndex;
+            }
         }
+        return kIndex;
     }
 
-    private int findPivot(int[] arr, int start, int end) {
-        int length = end - start + 1;
-        if (length <= 5) {
-            return findMedian(Arrays.copyOfRange(arr, start, end + 1));
-        }
-
-        ArrayList<Integer> medians = new ArrayList<>();
-        int i = start;
-        for (; i + 4 <= end; i += 5) {
-            int median = findMedian(Arrays.copyOfRange(arr, i, i + 5));
-            medians.add(median);
-        }
-        if (i <= end) {
-            int median = findMedian(Arrays.copyOfRange(arr, i, end + 1));
-            medians.add(median);
+    // Median of medians computed in place: each group's median is moved to the
+    // front of the range, and the median of that prefix is selected recursively.
+    static int findPivot(int[] arr, int start, int end) {
+        if (end - start < 5) {
+            insertionSort(arr, start, end);
+            return start + (end - start) / 2;
         }
 
-        int[] medianArr = toArray(medians);
-        return findPivot(medianArr, 0, medianArr.length - 1);
-    }
-
-    private int[] toArray(ArrayList<Integer> list) {
-        int[] arr = new int[list.size()];
-        for (int i = 0; i < list.size(); i++) {
-            arr[i] = list.get(i);
+        Probe.enter();
+        int medians = start;
+        for (int i = start; i <= end; i += 5) {
+            int groupEnd = Math.min(i + 4, end);
+            insertionSort(arr, i, groupEnd);
+            swap(arr, i + (groupEnd - i) / 2, medians++);
         }
-        return arr;
-    }
 
-    private int findMedian(int[] arr) {
-        Arrays.sort(arr);
-        return arr[arr.length / 2];
+        int last = medians - 1;
+        int pivot = selectIndex(arr, start, last, start + (last - start) / 2);
+        Probe.exit();
+        return pivot;
     }
 
-    private int partition(int[] arr, int start, int end) {
-        int pivot = arr[end];
-        int i = start - 1;
-        for (int j = start; j < end; j++) {
-            if (arr[j] <= pivot) {
-                i++;
-                swap(arr, i, j);
+    private static void insertionSort(int[] arr, int start, int end) {
+        for (int i = start + 1; i <= end; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= start && arr[j] > key) {
+                Probe.move();
+                arr[j + 1] = arr[j];
+                j--;
             }
+            arr[j + 1] = key;
         }
-        swap(arr, i + 1, end);
-        return i + 1;
     }
 
-    private void swap(int[] arr, int i, int j) {
+    private static void swap(int[] arr, int i, int j) {
+        Probe.swap();
         int tmp = arr[i];
         arr[i] = arr[j];
         arr[j] = tmp;
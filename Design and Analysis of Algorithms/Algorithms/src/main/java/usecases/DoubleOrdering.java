@@ -0,0 +1,49 @@
+package usecases;
+
+/**
+ * Brings double sorts in line with {@link Double#compare}: NaNs are moved past the
+ * end before sorting with plain {@code <}, and afterwards the run of zeros is
+ * rewritten so that every -0.0 precedes every 0.0.
+ */
+final class DoubleOrdering {
+
+    private DoubleOrdering() {
+    }
+
+    // Moves all NaNs to the end of arr[low..high] and returns the last non-NaN index.
+    static int moveNaNsToEnd(double[] arr, int low, int high) {
+        while (high >= low && Double.isNaN(arr[high])) {
+            high--;
+        }
+        for (int i = high - 1; i >= low; i--) {
+            double value = arr[i];
+            if (Double.isNaN(value)) {
+                arr[i] = arr[high];
+                arr[high--] = value;
+            }
+        }
+        return high;
+    }
+
+    // arr[low..high] is sorted by '<'; reorders its zeros so that -0.0 comes first.
+    static void orderZeros(double[] arr, int low, int high) {
+        int lo = low, hi = high + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < 0.0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        int negativeZeros = 0;
+        int end = lo;
+        for (; end <= high && arr[end] == 0.0; end++) {
+            if (Double.doubleToRawLongBits(arr[end]) < 0) negativeZeros++;
+        }
+        for (int i = lo; i < end; i++) {
+            arr[i] = i < lo + negativeZeros ? -0.0 : 0.0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package usecases;
+
+import interfaces.DoubleSort;
+
+/**
+ * Quicksort for doubles in {@link Double#compare} order: -0.0 before 0.0 and NaN last.
+ * Falls back to heapsort once the recursion gets too deep, as in {@link IntroSort}.
+ */
+public final class DoubleQuickSort implements DoubleSort {
+    private static final int INSERTION_THRESHOLD = 24;
+
+    @Override
+    public void sort(double[] arr, int low, int high) {
+        if (low >= high) return;
+
+        int last = DoubleOrdering.moveNaNsToEnd(arr, low, high);
+        if (low < last) {
+            int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(last - low + 1));
+            quickSort(arr, low, last, depthLimit);
+            DoubleOrdering.orderZeros(arr, low, last);
+        }
+    }
+
+    private void quickSort(double[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+
+            double pivot = medianOfThree(arr[low], arr[low + (high - low) / 2], arr[high]);
+
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                double value = arr[i];
+                if (value < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (value > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                quickSort(arr, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                quickSort(arr, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(arr, low, high);
+    }
+
+    private static double medianOfThree(double a, double b, double c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void insertionSort(double[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            double key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void heapSort(double[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+
+    private static void siftDown(double[] arr, int base, int pos, int size) {
+        double value = arr[base + pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && arr[base + child + 1] > arr[base + child]) {
+                child++;
+            }
+            if (arr[base + child] <= value) break;
+            arr[base + pos] = arr[base + child];
+            pos = child;
+        }
+        arr[base + pos] = value;
+    }
+
+    private static void swap(double[] arr, int i, int j) {
+        double temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
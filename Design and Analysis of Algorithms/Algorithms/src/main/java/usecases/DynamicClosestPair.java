@@ -0,0 +1,244 @@
+package usecases;
+
+import entities.PointPair;
+
+import java.util.Arrays;
+
+/**
+ * Closest pair of a changing point set. Points are kept in a hash grid whose cell
+ * size is at least the current minimum distance d, so a new point only needs to be
+ * compared with the nine cells around it. The grid is rebuilt with a smaller cell
+ * once d drops below half the cell size.
+ *
+ * <p>Deleting a point of the current closest pair invalidates d, which can then
+ * only grow. Updates stop touching the grid until the next query, which recomputes
+ * the pair with {@link GridClosestPair} in expected O(n) and rebuilds the grid. A
+ * random deletion hits the pair with probability 2/n, so updates cost O(1) amortized.
+ *
+ * <p>Points are identified by the handle returned from {@link #insert}; handles of
+ * deleted points are reused.
+ */
+public final class DynamicClosestPair {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MAX_TABLE_CAPACITY = 1 << 30;
+    // The table is rebuilt once half full, so it can index at most half its largest size.
+    private static final int MAX_POINTS = MAX_TABLE_CAPACITY / 2;
+
+    private final GridClosestPair recompute = new GridClosestPair(42);
+
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+    private boolean[] alive = new boolean[INITIAL_CAPACITY];
+    private int[] next = new int[INITIAL_CAPACITY];
+    private int[] prev = new int[INITIAL_CAPACITY];
+    private int[] slotOf = new int[INITIAL_CAPACITY];
+    private int[] free = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int highWater;
+    private int size;
+
+    private long[] keys = new long[0];
+    private int[] heads = new int[0];
+    private int usedSlots;
+    private double cell = 1.0;
+
+    private int bestA = -1;
+    private int bestB = -1;
+    private double bestSquared = Double.POSITIVE_INFINITY;
+    private boolean stale;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < highWater && alive[handle];
+    }
+
+    public int insert(double x, double y) {
+        if (!Double.isFinite(x) || !Double.isFinite(y)) {
+            throw new IllegalArgumentException("Coordinates must be finite");
+        }
+        if (size >= MAX_POINTS) {
+            throw new IllegalStateException("Too many points for the grid table: " + size);
+        }
+        if (size < 2) stale = true;
+
+        int id = allocate();
+        xs[id] = x;
+        ys[id] = y;
+        alive[id] = true;
+        size++;
+        if (stale) return id;
+
+        // Cells whose lists emptied keep their slot, so rebuild once half the table is used.
+        if (2 * (usedSlots + 1) > keys.length) {
+            rebuildGrid();
+        } else {
+            addToGrid(id);
+        }
+        long cx = cellCoordinate(x), cy = cellCoordinate(y);
+        for (long dx = -1; dx <= 1; dx++) {
+            for (long dy = -1; dy <= 1; dy++) {
+                int slot = findSlot(cellKey(cx + dx, cy + dy));
+                if (slot == -1) continue;
+                for (int other = heads[slot]; other != -1; other = next[other]) {
+                    if (other == id) continue;
+                    double d2 = distanceSquared(id, other);
+                    if (d2 < bestSquared) {
+                        bestSquared = d2;
+                        bestA = Math.min(id, other);
+                        bestB = Math.max(id, other);
+                    }
+                }
+            }
+        }
+
+        double distance = Math.sqrt(bestSquared);
+        if (distance > 0 && distance < cell / 2) {
+            cell = distance;
+            rebuildGrid();
+        }
+        return id;
+    }
+
+    public void delete(int handle) {
+        if (!contains(handle)) {
+            throw new IllegalArgumentException("Unknown point handle: " + handle);
+        }
+        if (!stale) removeFromGrid(handle);
+
+        alive[handle] = false;
+        free[freeCount++] = handle;
+        size--;
+        if (handle == bestA || handle == bestB) stale = true;
+    }
+
+    // Current minimum distance, or Double.MAX_VALUE with fewer than two points (as in Find).
+    public double distance() {
+        if (size < 2) return Double.MAX_VALUE;
+        refresh();
+        return Math.sqrt(bestSquared);
+    }
+
+    public PointPair closestPair() {
+        if (size < 2) {
+            throw new IllegalStateException("At least two points are required");
+        }
+        refresh();
+        return new PointPair(bestA, bestB, Math.sqrt(bestSquared));
+    }
+
+    private void refresh() {
+        if (!stale) return;
+
+        int[] ids = new int[size];
+        double[] px = new double[size];
+        double[] py = new double[size];
+        for (int id = 0, i = 0; id < highWater; id++) {
+            if (!alive[id]) continue;
+            ids[i] = id;
+            px[i] = xs[id];
+            py[i++] = ys[id];
+        }
+
+        PointPair pair = recompute.find(px, py);
+        bestA = Math.min(ids[pair.first], ids[pair.second]);
+        bestB = Math.max(ids[pair.first], ids[pair.second]);
+        bestSquared = distanceSquared(bestA, bestB);
+        if (pair.distance > 0) cell = pair.distance;
+
+        stale = false;
+        rebuildGrid();
+    }
+
+    private int allocate() {
+        if (freeCount > 0) return free[--freeCount];
+        if (highWater == xs.length) {
+            int capacity = xs.length * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            alive = Arrays.copyOf(alive, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            slotOf = Arrays.copyOf(slotOf, capacity);
+            free = Arrays.copyOf(free, capacity);
+        }
+        return highWater++;
+    }
+
+    private void rebuildGrid() {
+        int capacity = (int) Math.min((long) Integer.highestOneBit(Math.max(INITIAL_CAPACITY, size)) << 2,
+                MAX_TABLE_CAPACITY);
+        keys = new long[capacity];
+        heads = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        usedSlots = 0;
+        for (int id = 0; id < highWater; id++) {
+            if (alive[id]) addToGrid(id);
+        }
+    }
+
+    private void addToGrid(int id) {
+        long key = cellKey(cellCoordinate(xs[id]), cellCoordinate(ys[id]));
+        int slot = (int) mix(key) & (keys.length - 1);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & (keys.length - 1);
+        }
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            heads[slot] = -1;
+            usedSlots++;
+        }
+
+        int head = heads[slot];
+        next[id] = head;
+        prev[id] = -1;
+        if (head != -1) prev[head] = id;
+        heads[slot] = id;
+        slotOf[id] = slot;
+    }
+
+    private void removeFromGrid(int id) {
+        if (prev[id] != -1) {
+            next[prev[id]] = next[id];
+        } else {
+            heads[slotOf[id]] = next[id];
+        }
+        if (next[id] != -1) prev[next[id]] = prev[id];
+    }
+
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        int slot = (int) mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private long cellCoordinate(double value) {
+        return (long) Math.floor(value / cell);
+    }
+
+    // Distinct cells may share a key; that only adds candidates, it never hides one.
+    private static long cellKey(long cx, long cy) {
+        long key = cx * 0x9E3779B97F4A7C15L + cy;
+        return key == EMPTY ? 0 : key;
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private double distanceSquared(int a, int b) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,336 @@
+package usecases;
+
+import interfaces.Sort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * External merge sort for binary files of 32-bit ints that do not fit in memory.
+ * Runs of {@code runLength} ints are read through a {@link FileChannel}, sorted in
+ * memory with any {@link Sort} and written to temporary files. The runs are then
+ * merged {@code fanIn} at a time through a primitive min-heap, with one buffered
+ * reader per run, until a single sorted file remains.
+ */
+public final class ExternalSort {
+    private static final int DEFAULT_FAN_IN = 256;
+    private static final int IO_BUFFER_BYTES = 1 << 16;
+
+    private final Sort runSorter;
+    private final int runLength;
+    private final int fanIn;
+    private final Path tempDirectory;
+    private final ByteOrder order;
+
+    public ExternalSort(Sort runSorter, int runLength, Path tempDirectory) {
+        this(runSorter, runLength, DEFAULT_FAN_IN, tempDirectory, ByteOrder.BIG_ENDIAN);
+    }
+
+    public ExternalSort(Sort runSorter, int runLength, int fanIn, Path tempDirectory, ByteOrder order) {
+        if (runLength < 1) {
+            throw new IllegalArgumentException("runLength must be positive");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least 2");
+        }
+        this.runSorter = runSorter;
+        this.runLength = runLength;
+        this.fanIn = fanIn;
+        this.tempDirectory = tempDirectory;
+        this.order = order;
+    }
+
+    public Report sort(Path input, Path output) throws IOException {
+        long size = Files.size(input);
+        if (size % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Input size is not a multiple of 4 bytes: " + size);
+        }
+
+        Report report = new Report();
+        List<Path> runs = new ArrayList<>();
+        try {
+            long start = System.nanoTime();
+            createRuns(input, runs, report);
+            report.runPhaseNanos = System.nanoTime() - start;
+            report.runCount = runs.size();
+
+            start = System.nanoTime();
+            if (runs.isEmpty()) {
+                Files.deleteIfExists(output);
+                Files.createFile(output);
+            } else {
+                while (runs.size() > fanIn) {
+                    runs = mergePass(runs, report);
+                    report.mergePasses++;
+                }
+                mergeToOutput(runs, output, report);
+                report.mergePasses++;
+            }
+            report.mergePhaseNanos = System.nanoTime() - start;
+        } finally {
+            deleteAll(runs);
+        }
+        return report;
+    }
+
+    private void createRuns(Path input, List<Path> runs, Report report) throws IOException {
+        int[] run = new int[runLength];
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(order);
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            buffer.flip();
+            while (true) {
+                int n = 0;
+                while (n < runLength) {
+                    if (!buffer.hasRemaining()) {
+                        buffer.clear();
+                        int read = readFully(in, buffer);
+                        report.bytesRead += read;
+                        buffer.flip();
+                        if (read == 0) break;
+                    }
+                    int take = Math.min(buffer.remaining() / Integer.BYTES, runLength - n);
+                    buffer.asIntBuffer().get(run, n, take);
+                    buffer.position(buffer.position() + take * Integer.BYTES);
+                    n += take;
+                }
+                if (n == 0) return;
+
+                runSorter.sort(run, 0, n - 1);
+
+                Path path = Files.createTempFile(tempDirectory, "run-", ".bin");
+                runs.add(path);
+                try (RunWriter writer = new RunWriter(path, report)) {
+                    for (int i = 0; i < n; i++) {
+                        writer.write(run[i]);
+                    }
+                }
+                if (n < runLength) return;
+            }
+        }
+    }
+
+    // Merges the runs fanIn at a time into new temporary files. The caller still owns the input
+    // runs if this fails, so only the files created by this pass are cleaned up here.
+    private List<Path> mergePass(List<Path> runs, Report report) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int i = 0; i < runs.size(); i += fanIn) {
+                List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                Path target = Files.createTempFile(tempDirectory, "merge-", ".bin");
+                merged.add(target);
+                merge(group, target, report);
+                deleteAll(group);
+            }
+        } catch (Throwable e) {
+            try {
+                deleteAll(merged);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        return merged;
+    }
+
+    // Merges into a temporary file next to output and moves it into place only once it is complete,
+    // so a failed merge never leaves a partial file that looks like a result.
+    private void mergeToOutput(List<Path> runs, Path output, Report report) throws IOException {
+        Path partial = Files.createTempFile(output.toAbsolutePath().getParent(), output.getFileName() + ".", ".part");
+        try {
+            merge(runs, partial, report);
+            try {
+                Files.move(partial, output, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(partial, output, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (Throwable e) {
+            try {
+                Files.deleteIfExists(partial);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    private void merge(List<Path> runs, Path target, Report report) throws IOException {
+        int k = runs.size();
+        RunReader[] readers = new RunReader[k];
+        int[] heapRuns = new int[k];
+        int[] heapValues = new int[k];
+        int heapSize = 0;
+
+        try (RunWriter writer = new RunWriter(target, report)) {
+            for (int r = 0; r < k; r++) {
+                readers[r] = new RunReader(runs.get(r), report);
+                if (readers[r].hasNext()) {
+                    heapRuns[heapSize] = r;
+                    heapValues[heapSize] = readers[r].next();
+                    siftUp(heapRuns, heapValues, heapSize++);
+                }
+            }
+
+            while (heapSize > 0) {
+                int r = heapRuns[0];
+                writer.write(heapValues[0]);
+
+                if (readers[r].hasNext()) {
+                    heapValues[0] = readers[r].next();
+                } else {
+                    heapSize--;
+                    heapRuns[0] = heapRuns[heapSize];
+                    heapValues[0] = heapValues[heapSize];
+                }
+                siftDown(heapRuns, heapValues, heapSize);
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) reader.close();
+            }
+        }
+    }
+
+    private static void siftUp(int[] runs, int[] values, int pos) {
+        int run = runs[pos], value = values[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (values[parent] <= value) break;
+            runs[pos] = runs[parent];
+            values[pos] = values[parent];
+            pos = parent;
+        }
+        runs[pos] = run;
+        values[pos] = value;
+    }
+
+    private static void siftDown(int[] runs, int[] values, int size) {
+        if (size == 0) return;
+
+        int run = runs[0], value = values[0];
+        int pos = 0, half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && values[child + 1] < values[child]) child++;
+            if (values[child] >= value) break;
+            runs[pos] = runs[child];
+            values[pos] = values[child];
+            pos = child;
+        }
+        runs[pos] = run;
+        values[pos] = value;
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer);
+            if (read < 0) break;
+            total += read;
+        }
+        return total;
+    }
+
+    private static void deleteAll(List<Path> paths) throws IOException {
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private final class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final Report report;
+
+        RunReader(Path path, Report report) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(order);
+            this.report = report;
+            buffer.flip();
+        }
+
+        boolean hasNext() throws IOException {
+            if (buffer.hasRemaining()) return true;
+
+            buffer.clear();
+            report.bytesRead += readFully(channel, buffer);
+            buffer.flip();
+            return buffer.hasRemaining();
+        }
+
+        int next() {
+            return buffer.getInt();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private final class RunWriter implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final Report report;
+
+        RunWriter(Path path, Report report) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(order);
+            this.report = report;
+        }
+
+        void write(int value) throws IOException {
+            if (!buffer.hasRemaining()) flush();
+            buffer.putInt(value);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                report.bytesWritten += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    public static final class Report {
+        private long bytesRead;
+        private long bytesWritten;
+        private int runCount;
+        private int mergePasses;
+        private long runPhaseNanos;
+        private long mergePhaseNanos;
+
+        public long getBytesRead() { return bytesRead; }
+        public long getBytesWritten() { return bytesWritten; }
+        public int getRunCount() { return runCount; }
+        public int getMergePasses() { return mergePasses; }
+        public double getRunPhaseMs() { return runPhaseNanos / 1_000_000.0; }
+        public double getMergePhaseMs() { return mergePhaseNanos / 1_000_000.0; }
+
+        @Override
+        public String toString() {
+            return String.format("runs=%d, mergePasses=%d, bytesRead=%d, bytesWritten=%d, runPhase=%.3f ms, mergePhase=%.3f ms",
+                    runCount, mergePasses, bytesRead, bytesWritten, getRunPhaseMs(), getMergePhaseMs());
+        }
+    }
+}
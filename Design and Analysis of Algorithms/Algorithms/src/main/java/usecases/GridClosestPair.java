@@ -0,0 +1,230 @@
+package usecases;
+
+import entities.PointPair;
+import interfaces.Find;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Rabin's randomized closest pair in expected O(n) time. The closest distance d
+ * of a random sample of n^(2/3) points sets the cell size of a hash grid; every
+ * pair closer than d then lies in the same or an adjacent cell, and only O(n)
+ * such pairs are expected. Cells are keyed by a packed long in an open-addressing
+ * table, with points chained through a primitive next array.
+ */
+public final class GridClosestPair implements Find {
+    private static final int BRUTE_FORCE_THRESHOLD = 64;
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MAX_TABLE_CAPACITY = 1 << 30;
+
+    private final SplittableRandom random;
+
+    public GridClosestPair() {
+        this(new SplittableRandom());
+    }
+
+    public GridClosestPair(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private GridClosestPair(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public double find(double[][] points) {
+        if (points.length < 2) return Double.MAX_VALUE;
+
+        double[] xs = new double[points.length];
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i][0];
+            ys[i] = points[i][1];
+        }
+        return find(xs, ys).distance;
+    }
+
+    public PointPair find(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs and ys must have the same length");
+        }
+        int n = xs.length;
+        if (n < 2) {
+            throw new IllegalArgumentException("At least two points are required");
+        }
+        if (n <= BRUTE_FORCE_THRESHOLD) {
+            return bruteForce(xs, ys);
+        }
+
+        PointPair sampled = sampleClosest(xs, ys);
+        if (sampled.distance == 0) return sampled;
+
+        double cell = sampled.distance;
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        if ((maxX - minX) / cell >= Integer.MAX_VALUE || (maxY - minY) / cell >= Integer.MAX_VALUE) {
+            // Cell coordinates would not fit the packed key; fall back to divide and conquer.
+            return new IndexedClosestPair().find(xs, ys);
+        }
+
+        Grid grid = new Grid(n);
+        int[] cellX = new int[n];
+        int[] cellY = new int[n];
+        for (int i = 0; i < n; i++) {
+            cellX[i] = (int) ((xs[i] - minX) / cell);
+            cellY[i] = (int) ((ys[i] - minY) / cell);
+            grid.add(cellKey(cellX[i], cellY[i]), i);
+        }
+
+        int bestA = sampled.first, bestB = sampled.second;
+        double best = distanceSquared(xs, ys, bestA, bestB);
+
+        for (int slot = 0; slot < grid.keys.length; slot++) {
+            if (grid.keys[slot] == EMPTY) continue;
+
+            int head = grid.heads[slot];
+            int cx = cellX[head], cy = cellY[head];
+
+            for (int a = head; a != -1; a = grid.next[a]) {
+                for (int b = grid.next[a]; b != -1; b = grid.next[b]) {
+                    double d2 = distanceSquared(xs, ys, a, b);
+                    if (d2 < best) {
+                        best = d2;
+                        bestA = a;
+                        bestB = b;
+                    }
+                }
+            }
+
+            // Each pair of adjacent cells is visited once: right, upper-left, up and upper-right.
+            for (int k = 0; k < 4; k++) {
+                int nx = cx + (k == 0 || k == 3 ? 1 : k == 1 ? -1 : 0);
+                int ny = cy + (k == 0 ? 0 : 1);
+                int other = grid.find(cellKey(nx, ny));
+                if (other == -1) continue;
+
+                for (int a = head; a != -1; a = grid.next[a]) {
+                    for (int b = grid.heads[other]; b != -1; b = grid.next[b]) {
+                        double d2 = distanceSquared(xs, ys, a, b);
+                        if (d2 < best) {
+                            best = d2;
+                            bestA = a;
+                            bestB = b;
+                        }
+                    }
+                }
+            }
+        }
+
+        return new PointPair(Math.min(bestA, bestB), Math.max(bestA, bestB), Math.sqrt(best));
+    }
+
+    private PointPair sampleClosest(double[] xs, double[] ys) {
+        int n = xs.length;
+        int m = Math.max(2, (int) Math.ceil(Math.pow(n, 2.0 / 3.0)));
+
+        // Partial Fisher-Yates shuffle picks m distinct indices.
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        double[] sx = new double[m];
+        double[] sy = new double[m];
+        for (int i = 0; i < m; i++) {
+            int j = i + random.nextInt(n - i);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+            sx[i] = xs[order[i]];
+            sy[i] = ys[order[i]];
+        }
+
+        PointPair pair = new IndexedClosestPair().find(sx, sy);
+        return new PointPair(order[pair.first], order[pair.second], pair.distance);
+    }
+
+    private static PointPair bruteForce(double[] xs, double[] ys) {
+        int bestA = 0, bestB = 1;
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < xs.length; i++) {
+            for (int j = i + 1; j < xs.length; j++) {
+                double d2 = distanceSquared(xs, ys, i, j);
+                if (d2 < best) {
+                    best = d2;
+                    bestA = i;
+                    bestB = j;
+                }
+            }
+        }
+        return new PointPair(bestA, bestB, Math.sqrt(best));
+    }
+
+    private static double distanceSquared(double[] xs, double[] ys, int a, int b) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
+        return dx * dx + dy * dy;
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    private static final class Grid {
+        final long[] keys;
+        final int[] heads;
+        final int[] next;
+        private final int mask;
+
+        // Up to four slots per point, capped at the largest power-of-two array. Each point adds
+        // at most one cell, so fewer points than slots always leaves an empty slot to end a probe.
+        Grid(int points) {
+            long wanted = (long) Integer.highestOneBit(Math.max(4, points)) << 2;
+            int capacity = (int) Math.min(wanted, MAX_TABLE_CAPACITY);
+            if (points >= capacity) {
+                throw new IllegalArgumentException("Too many points for the grid table: " + points);
+            }
+            this.keys = new long[capacity];
+            this.heads = new int[capacity];
+            this.next = new int[points];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        void add(long key, int point) {
+            int slot = slotFor(key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                heads[slot] = -1;
+            }
+            next[point] = heads[slot];
+            heads[slot] = point;
+        }
+
+        int find(long key) {
+            int slot = slotFor(key);
+            return keys[slot] == EMPTY ? -1 : slot;
+        }
+
+        private int slotFor(long key) {
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static long mix(long key) {
+            key ^= key >>> 33;
+            key *= 0xFF51AFD7ED558CCDL;
+            key ^= key >>> 33;
+            return key;
+        }
+    }
+}
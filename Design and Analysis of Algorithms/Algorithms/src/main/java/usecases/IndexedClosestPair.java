@@ -0,0 +1,35 @@
+package usecases;
+
+import entities.PointPair;
+import interfaces.Find;
+
+/**
+ * O(n log n) closest pair over primitive coordinate arrays. Unlike {@link ClosestPair}
+ * it never re-sorts the strip and reports which two input points are closest.
+ */
+public final class IndexedClosestPair implements Find {
+
+    @Override
+    public double find(double[][] points) {
+        if (points.length < 2) return Double.MAX_VALUE;
+
+        PointSet set = PointSet.fromArrays(points);
+        return solve(set).distance;
+    }
+
+    public PointPair find(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs and ys must have the same length");
+        }
+        if (xs.length < 2) {
+            throw new IllegalArgumentException("At least two points are required");
+        }
+        return solve(PointSet.sortedByX(xs, ys));
+    }
+
+    private PointPair solve(PointSet set) {
+        PointSet.Best best = new PointSet.Best();
+        set.solve(0, set.px.length, best);
+        return set.toPair(best);
+    }
+}
@@ -0,0 +1,112 @@
+package usecases;
+
+import interfaces.MultiSelect;
+
+/**
+ * Selects several ranks in one partitioning pass. Each 3-way partition splits the
+ * sorted rank list by binary search, so only sides that still contain a requested
+ * rank are visited. Pivots are median-of-three until the depth budget runs out,
+ * then median-of-medians.
+ *
+ * <p>Ranks are 1-based and must be sorted in non-decreasing order. After either
+ * call every requested position holds the value of that rank, every element before
+ * it is no greater and every element after it is no smaller.
+ */
+public final class IntroMultiSelect implements MultiSelect {
+
+    @Override
+    public int select(int[] arr, int k) {
+        if (k < 1 || k > arr.length) {
+            throw new IllegalArgumentException("k is out of bounds");
+        }
+        return arr[IntroSelect.selectIndex(arr, 0, arr.length - 1, k - 1)];
+    }
+
+    @Override
+    public int[] select(int[] arr, int[] ks) {
+        nthElement(arr, ks);
+
+        int[] result = new int[ks.length];
+        for (int i = 0; i < ks.length; i++) {
+            result[i] = arr[ks[i] - 1];
+        }
+        return result;
+    }
+
+    @Override
+    public void nthElement(int[] arr, int[] ks) {
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] < 1 || ks[i] > arr.length) {
+                throw new IllegalArgumentException("k is out of bounds");
+            }
+            if (i > 0 && ks[i] < ks[i - 1]) {
+                throw new IllegalArgumentException("ranks must be sorted");
+            }
+        }
+        if (ks.length == 0 || arr.length < 2) return;
+
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(arr.length));
+        multiSelect(arr, 0, arr.length - 1, ks, 0, ks.length, depthLimit);
+    }
+
+    // ks[from, to) are the ranks still unresolved inside arr[start..end].
+    private void multiSelect(int[] arr, int start, int end, int[] ks, int from, int to, int depthLimit) {
+        while (from < to && start < end) {
+            int pivot;
+            if (depthLimit-- > 0) {
+                pivot = medianOfThree(arr[start], arr[start + (end - start) / 2], arr[end]);
+            } else {
+                pivot = arr[DeterministicSelect.findPivot(arr, start, end)];
+            }
+
+            int lt = start, i = start, gt = end;
+            while (i <= gt) {
+                int value = arr[i];
+                if (value < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (value > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // Ranks are 1-based, so index lt corresponds to rank lt + 1.
+            int leftTo = firstRankAtLeast(ks, from, to, lt + 1);
+            int rightFrom = firstRankAtLeast(ks, leftTo, to, gt + 2);
+
+            if (leftTo - from < to - rightFrom) {
+                multiSelect(arr, start, lt - 1, ks, from, leftTo, depthLimit);
+                start = gt + 1;
+                from = rightFrom;
+            } else {
+                multiSelect(arr, gt + 1, end, ks, rightFrom, to, depthLimit);
+                end = lt - 1;
+                to = leftTo;
+            }
+        }
+    }
+
+    private static int firstRankAtLeast(int[] ks, int from, int to, int rank) {
+        int lo = from, hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ks[mid] < rank) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+}
@@ -0,0 +1,67 @@
+package usecases;
+
+import interfaces.Select;
+
+/**
+ * Quickselect with median-of-three pivots that switches to the median-of-medians
+ * pivot from {@link DeterministicSelect} once the range stops halving, keeping
+ * the worst case linear.
+ */
+public final class IntroSelect implements Select {
+
+    @Override
+    public int select(int[] arr, int k) {
+        if (k < 1 || k > arr.length) {
+            throw new IllegalArgumentException("k is out of bounds");
+        }
+        return arr[selectIndex(arr, 0, arr.length - 1, k - 1)];
+    }
+
+    static int selectIndex(int[] arr, int start, int end, int kIndex) {
+        int checkpoint = end - start + 1;
+        int steps = 0;
+
+        while (start < end) {
+            if ((++steps & 1) == 0) {
+                int size = end - start + 1;
+                if (size > checkpoint / 2) {
+                    return DeterministicSelect.selectIndex(arr, start, end, kIndex);
+                }
+                checkpoint = size;
+            }
+
+            int pivot = medianOfThree(arr[start], arr[start + (end - start) / 2], arr[end]);
+
+            int lt = start, i = start, gt = end;
+            while (i <= gt) {
+                int value = arr[i];
+                if (value < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (value > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (kIndex < lt) {
+                end = lt - 1;
+            } else if (kIndex > gt) {
+                start = gt + 1;
+            } else {
+                return kIndex;
+            }
+        }
+        return kIndex;
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+}
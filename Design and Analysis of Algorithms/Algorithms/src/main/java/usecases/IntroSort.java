@@ -0,0 +1,122 @@
+package usecases;
+
+import interfaces.Sort;
+
+/**
+ * Introsort: quicksort with ninther pivots and 3-way partitioning that falls back
+ * to heapsort once the recursion gets too deep, so the worst case stays O(n log n).
+ */
+public final class IntroSort implements Sort {
+    private static final int INSERTION_THRESHOLD = 24;
+    private static final int NINTHER_THRESHOLD = 128;
+
+    @Override
+    public void sort(int[] arr, int low, int high) {
+        if (low >= high) return;
+
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+        introSort(arr, low, high, depthLimit);
+    }
+
+    private void introSort(int[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+
+            int pivot = choosePivot(arr, low, high);
+
+            // Dutch national flag: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                int value = arr[i];
+                if (value < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (value > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // Recurse on the smaller side and loop on the larger one to bound the stack.
+            if (lt - low < high - gt) {
+                introSort(arr, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                introSort(arr, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(arr, low, high);
+    }
+
+    static int choosePivot(int[] arr, int low, int high) {
+        int n = high - low + 1;
+        int mid = low + (n >>> 1);
+
+        if (n > NINTHER_THRESHOLD) {
+            int step = n >>> 3;
+            int a = medianOfThree(arr, low, low + step, low + 2 * step);
+            int b = medianOfThree(arr, mid - step, mid, mid + step);
+            int c = medianOfThree(arr, high - 2 * step, high - step, high);
+            return arr[medianOfThree(arr, a, b, c)];
+        }
+        return arr[medianOfThree(arr, low, mid, high)];
+    }
+
+    private static int medianOfThree(int[] arr, int a, int b, int c) {
+        int x = arr[a], y = arr[b], z = arr[c];
+        if (x < y) {
+            if (y < z) return b;
+            return x < z ? c : a;
+        }
+        if (x < z) return a;
+        return y < z ? c : b;
+    }
+
+    private void insertionSort(int[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private void heapSort(int[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+
+    private void siftDown(int[] arr, int base, int pos, int size) {
+        int value = arr[base + pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && arr[base + child + 1] > arr[base + child]) {
+                child++;
+            }
+            if (arr[base + child] <= value) break;
+            arr[base + pos] = arr[base + child];
+            pos = child;
+        }
+        arr[base + pos] = value;
+    }
+
+    private void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,336 @@
+package usecases;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Static k-d tree over flat coordinates ({@code coords[i * dimensions + axis]}).
+ * The tree is implicit: points are reordered so that each range [lo, hi) keeps its
+ * splitting point at the middle, and coordinates are copied into that order so a
+ * search walks contiguous memory. Queries return indices into the original input.
+ */
+public final class KdTree {
+    private static final int PARALLEL_CHUNK = 1 << 12;
+
+    private final int dimensions;
+    private final int size;
+    private final double[] points;
+    private final int[] ids;
+
+    public KdTree(double[] coords, int dimensions) {
+        if (dimensions < 1) {
+            throw new IllegalArgumentException("dimensions must be positive");
+        }
+        if (coords.length % dimensions != 0) {
+            throw new IllegalArgumentException("coords length must be a multiple of dimensions");
+        }
+        this.dimensions = dimensions;
+        this.size = coords.length / dimensions;
+        this.ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i;
+        }
+
+        build(coords, 0, size, 0);
+
+        this.points = new double[coords.length];
+        for (int p = 0; p < size; p++) {
+            System.arraycopy(coords, ids[p] * dimensions, points, p * dimensions, dimensions);
+        }
+    }
+
+    public static KdTree of(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs and ys must have the same length");
+        }
+        double[] coords = new double[xs.length * 2];
+        for (int i = 0; i < xs.length; i++) {
+            coords[2 * i] = xs[i];
+            coords[2 * i + 1] = ys[i];
+        }
+        return new KdTree(coords, 2);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    // Index of the input point closest to query, or -1 if the tree is empty.
+    public int nearest(double[] query) {
+        checkQuery(query);
+        Nearest nearest = new Nearest(-1);
+        search(0, size, 0, query, nearest);
+        return nearest.position < 0 ? -1 : ids[nearest.position];
+    }
+
+    // Indices of the k closest input points, nearest first.
+    public int[] kNearest(double[] query, int k) {
+        checkQuery(query);
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be non-negative");
+        }
+        KNearest nearest = new KNearest(Math.min(k, size));
+        search(0, size, 0, query, nearest);
+        return nearest.drain(ids);
+    }
+
+    // Indices of all input points within radius of query, in no particular order.
+    public int[] radius(double[] query, double radius) {
+        checkQuery(query);
+        if (radius < 0) {
+            throw new IllegalArgumentException("radius must be non-negative");
+        }
+        Radius within = new Radius(radius * radius);
+        search(0, size, 0, query, within);
+
+        int[] result = Arrays.copyOf(within.found, within.count);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids[result[i]];
+        }
+        return result;
+    }
+
+    public int[] allNearestNeighbours() {
+        return allNearestNeighbours(ForkJoinPool.commonPool());
+    }
+
+    // result[i] is the index of the closest other point to point i (-1 when there is none).
+    public int[] allNearestNeighbours(ForkJoinPool pool) {
+        int[] result = new int[size];
+        pool.invoke(new AllNearestTask(result, 0, size));
+        return result;
+    }
+
+    private void build(double[] coords, int lo, int hi, int depth) {
+        while (hi - lo > 1) {
+            int axis = depth % dimensions;
+            int mid = (lo + hi) >>> 1;
+            selectByAxis(coords, lo, hi - 1, mid, axis);
+
+            build(coords, lo, mid, depth + 1);
+            lo = mid + 1;
+            depth++;
+        }
+    }
+
+    private void selectByAxis(double[] coords, int start, int end, int kIndex, int axis) {
+        while (start < end) {
+            double a = coords[ids[start] * dimensions + axis];
+            double b = coords[ids[start + (end - start) / 2] * dimensions + axis];
+            double c = coords[ids[end] * dimensions + axis];
+            double pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+
+            int lt = start, i = start, gt = end;
+            while (i <= gt) {
+                double value = coords[ids[i] * dimensions + axis];
+                if (value < pivot) {
+                    swap(lt++, i++);
+                } else if (value > pivot) {
+                    swap(i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (kIndex < lt) {
+                end = lt - 1;
+            } else if (kIndex > gt) {
+                start = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void search(int lo, int hi, int depth, double[] query, Visitor visitor) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            visitor.offer(mid, distanceSquared(mid, query));
+
+            int axis = depth % dimensions;
+            double diff = query[axis] - points[mid * dimensions + axis];
+            depth++;
+
+            if (diff < 0) {
+                search(lo, mid, depth, query, visitor);
+                if (diff * diff > visitor.bound()) return;
+                lo = mid + 1;
+            } else {
+                search(mid + 1, hi, depth, query, visitor);
+                if (diff * diff > visitor.bound()) return;
+                hi = mid;
+            }
+        }
+    }
+
+    private double distanceSquared(int position, double[] query) {
+        double sum = 0;
+        int base = position * dimensions;
+        for (int d = 0; d < dimensions; d++) {
+            double diff = points[base + d] - query[d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private void checkQuery(double[] query) {
+        if (query.length != dimensions) {
+            throw new IllegalArgumentException("query must have " + dimensions + " coordinates");
+        }
+    }
+
+    private void swap(int i, int j) {
+        int tmp = ids[i];
+        ids[i] = ids[j];
+        ids[j] = tmp;
+    }
+
+    private abstract static class Visitor {
+        abstract void offer(int position, double distanceSquared);
+
+        abstract double bound();
+    }
+
+    private static final class Nearest extends Visitor {
+        private final int excluded;
+        int position = -1;
+        double best = Double.POSITIVE_INFINITY;
+
+        Nearest(int excluded) {
+            this.excluded = excluded;
+        }
+
+        @Override
+        void offer(int position, double distanceSquared) {
+            if (distanceSquared < best && position != excluded) {
+                best = distanceSquared;
+                this.position = position;
+            }
+        }
+
+        @Override
+        double bound() {
+            return best;
+        }
+    }
+
+    // Bounded max-heap on distance; the root is the farthest of the k kept so far.
+    private static final class KNearest extends Visitor {
+        private final double[] distances;
+        private final int[] positions;
+        private int count;
+
+        KNearest(int k) {
+            this.distances = new double[k];
+            this.positions = new int[k];
+        }
+
+        @Override
+        void offer(int position, double distanceSquared) {
+            int k = distances.length;
+            if (count < k) {
+                int hole = count++;
+                while (hole > 0) {
+                    int parent = (hole - 1) >>> 1;
+                    if (distances[parent] >= distanceSquared) break;
+                    distances[hole] = distances[parent];
+                    positions[hole] = positions[parent];
+                    hole = parent;
+                }
+                distances[hole] = distanceSquared;
+                positions[hole] = position;
+            } else if (k > 0 && distanceSquared < distances[0]) {
+                siftDown(position, distanceSquared, count);
+            }
+        }
+
+        @Override
+        double bound() {
+            return count < distances.length ? Double.POSITIVE_INFINITY : distances.length == 0 ? -1 : distances[0];
+        }
+
+        private void siftDown(int position, double distanceSquared, int n) {
+            int hole = 0;
+            while (true) {
+                int child = 2 * hole + 1;
+                if (child >= n) break;
+                if (child + 1 < n && distances[child + 1] > distances[child]) child++;
+                if (distances[child] <= distanceSquared) break;
+                distances[hole] = distances[child];
+                positions[hole] = positions[child];
+                hole = child;
+            }
+            distances[hole] = distanceSquared;
+            positions[hole] = position;
+        }
+
+        int[] drain(int[] ids) {
+            int[] result = new int[count];
+            for (int n = count; n > 0; n--) {
+                result[n - 1] = ids[positions[0]];
+                siftDown(positions[n - 1], distances[n - 1], n - 1);
+            }
+            return result;
+        }
+    }
+
+    private static final class Radius extends Visitor {
+        private final double radiusSquared;
+        int[] found = new int[16];
+        int count;
+
+        Radius(double radiusSquared) {
+            this.radiusSquared = radiusSquared;
+        }
+
+        @Override
+        void offer(int position, double distanceSquared) {
+            if (distanceSquared <= radiusSquared) {
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, count * 2);
+                }
+                found[count++] = position;
+            }
+        }
+
+        @Override
+        double bound() {
+            return radiusSquared;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class AllNearestTask extends RecursiveAction {
+        private final int[] result;
+        private final int from;
+        private final int to;
+
+        AllNearestTask(int[] result, int from, int to) {
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > PARALLEL_CHUNK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new AllNearestTask(result, from, mid), new AllNearestTask(result, mid, to));
+                return;
+            }
+
+            double[] query = new double[dimensions];
+            for (int p = from; p < to; p++) {
+                System.arraycopy(points, p * dimensions, query, 0, dimensions);
+                Nearest nearest = new Nearest(p);
+                search(0, size, 0, query, nearest);
+                result[ids[p]] = nearest.position < 0 ? -1 : ids[nearest.position];
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package usecases;
+
+import interfaces.QuantileSketch;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * KLL quantile sketch over ints. Level h holds items of weight 2^h; when the
+ * sketch exceeds its budget the lowest full level is sorted and every other item
+ * (random offset) is promoted to the next level. The normalized rank error is
+ * roughly 1.7 / k, independent of the stream length, and sketches built on
+ * separate shards can be merged.
+ */
+public final class KllSketch implements QuantileSketch {
+    private static final int DEFAULT_K = 200;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+    private final SplittableRandom random;
+    private int[][] levels;
+    private int[] levelSizes;
+    private int numLevels;
+    private int retained;
+    private int maxRetained;
+    private long count;
+    private long[] sortedView;
+
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    public KllSketch(int k) {
+        this(k, new SplittableRandom());
+    }
+
+    public KllSketch(int k, long seed) {
+        this(k, new SplittableRandom(seed));
+    }
+
+    private KllSketch(int k, SplittableRandom random) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k must be at least 8");
+        }
+        this.k = k;
+        this.random = random;
+        this.levels = new int[4][];
+        this.levelSizes = new int[4];
+        addLevel();
+    }
+
+    @Override
+    public void update(int value) {
+        append(0, value);
+        count++;
+        sortedView = null;
+        if (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    @Override
+    public void update(int[] values) {
+        for (int value : values) {
+            update(value);
+        }
+    }
+
+    public void merge(KllSketch other) {
+        if (other == this) {
+            throw new IllegalArgumentException("cannot merge a sketch into itself");
+        }
+        while (numLevels < other.numLevels) {
+            addLevel();
+        }
+        for (int h = 0; h < other.numLevels; h++) {
+            for (int i = 0; i < other.levelSizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        count += other.count;
+        sortedView = null;
+        while (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    public int retainedItems() {
+        return retained;
+    }
+
+    @Override
+    public int select(long k) {
+        if (count == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        if (k < 1 || k > count) {
+            throw new IllegalArgumentException("k is out of bounds");
+        }
+        long[] view = sortedView();
+        long weight = 0;
+        for (long entry : view) {
+            weight += 1L << (entry & 0xFF);
+            if (weight >= k) {
+                return (int) (entry >> 8);
+            }
+        }
+        return (int) (view[view.length - 1] >> 8);
+    }
+
+    public int quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q must be in [0, 1]");
+        }
+        return select(Math.max(1, (long) Math.ceil(q * count)));
+    }
+
+    @Override
+    public long rank(int value) {
+        if (count == 0) return 0;
+
+        long weight = 0;
+        for (long entry : sortedView()) {
+            if ((int) (entry >> 8) > value) break;
+            weight += 1L << (entry & 0xFF);
+        }
+        return weight;
+    }
+
+    // Items packed as (value << 8 | level), so sorting the longs orders by value.
+    private long[] sortedView() {
+        if (sortedView == null) {
+            long[] view = new long[retained];
+            int n = 0;
+            for (int h = 0; h < numLevels; h++) {
+                for (int i = 0; i < levelSizes[h]; i++) {
+                    view[n++] = ((long) levels[h][i] << 8) | h;
+                }
+            }
+            Arrays.sort(view);
+            sortedView = view;
+        }
+        return sortedView;
+    }
+
+    private void compress() {
+        for (int h = 0; h < numLevels; h++) {
+            if (levelSizes[h] >= capacity(h)) {
+                if (h + 1 == numLevels) {
+                    addLevel();
+                }
+                compact(h);
+                return;
+            }
+        }
+    }
+
+    private void compact(int h) {
+        int[] level = levels[h];
+        int size = levelSizes[h];
+        Arrays.sort(level, 0, size);
+
+        int leftover = size & 1;
+        int kept = leftover == 1 ? level[size - 1] : 0;
+        int pairs = size - leftover;
+
+        for (int i = random.nextInt(2); i < pairs; i += 2) {
+            append(h + 1, level[i]);
+        }
+        retained -= pairs;
+        levelSizes[h] = 0;
+        if (leftover == 1) {
+            level[0] = kept;
+            levelSizes[h] = 1;
+        }
+    }
+
+    private void append(int h, int value) {
+        int[] level = levels[h];
+        if (levelSizes[h] == level.length) {
+            level = Arrays.copyOf(level, level.length * 2);
+            levels[h] = level;
+        }
+        level[levelSizes[h]++] = value;
+        retained++;
+    }
+
+    private void addLevel() {
+        if (numLevels == levels.length) {
+            levels = Arrays.copyOf(levels, numLevels * 2);
+            levelSizes = Arrays.copyOf(levelSizes, numLevels * 2);
+        }
+        levels[numLevels] = new int[k];
+        numLevels++;
+
+        maxRetained = 0;
+        for (int h = 0; h < numLevels; h++) {
+            maxRetained += capacity(h);
+        }
+    }
+
+    private int capacity(int h) {
+        int depth = numLevels - 1 - h;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+}
@@ -0,0 +1,52 @@
+package usecases;
+
+import interfaces.LongSort;
+
+import java.util.Arrays;
+
+public final class LongMergeSort implements LongSort {
+    private static final int INSERTION_THRESHOLD = 32;
+
+    @Override
+    public void sort(long[] arr, int low, int high) {
+        if (low >= high) return;
+
+        long[] scratch = Arrays.copyOfRange(arr, low, high + 1);
+        sortInto(scratch, 0, arr, low, high - low + 1);
+    }
+
+    // Both ranges hold the same values on entry; on exit dst[dstOff, dstOff + n) is sorted.
+    private static void sortInto(long[] src, int srcOff, long[] dst, int dstOff, int n) {
+        if (n <= INSERTION_THRESHOLD) {
+            insertionSort(dst, dstOff, dstOff + n - 1);
+            return;
+        }
+
+        int half = n >>> 1;
+        sortInto(dst, dstOff, src, srcOff, half);
+        sortInto(dst, dstOff + half, src, srcOff + half, n - half);
+
+        int i = srcOff, mid = srcOff + half, j = mid, end = srcOff + n, k = dstOff;
+        if (src[mid - 1] <= src[mid]) {
+            System.arraycopy(src, srcOff, dst, dstOff, n);
+            return;
+        }
+        while (i < mid && j < end) {
+            dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+        }
+        while (i < mid) dst[k++] = src[i++];
+        while (j < end) dst[k++] = src[j++];
+    }
+
+    private static void insertionSort(long[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package usecases;
+
+import interfaces.LongSort;
+
+/**
+ * Quicksort for longs with median-of-three pivots and 3-way partitioning. Like
+ * {@link IntroSort} it falls back to heapsort once the recursion gets too deep, so
+ * inputs built to defeat median-of-three stay O(n log n).
+ */
+public final class LongQuickSort implements LongSort {
+    private static final int INSERTION_THRESHOLD = 24;
+
+    @Override
+    public void sort(long[] arr, int low, int high) {
+        if (low >= high) return;
+
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+        quickSort(arr, low, high, depthLimit);
+    }
+
+    private void quickSort(long[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+
+            long pivot = medianOfThree(arr[low], arr[low + (high - low) / 2], arr[high]);
+
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                long value = arr[i];
+                if (value < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (value > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                quickSort(arr, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                quickSort(arr, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(arr, low, high);
+    }
+
+    private static long medianOfThree(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void insertionSort(long[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void heapSort(long[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] arr, int base, int pos, int size) {
+        long value = arr[base + pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && arr[base + child + 1] > arr[base + child]) {
+                child++;
+            }
+            if (arr[base + child] <= value) break;
+            arr[base + pos] = arr[base + child];
+            pos = child;
+        }
+        arr[base + pos] = value;
+    }
+
+    private static void swap(long[] arr, int i, int j) {
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
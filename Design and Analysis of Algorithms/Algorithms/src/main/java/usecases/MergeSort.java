@@ -1,6 +1,7 @@
 package usecases;
 
 import interfaces.Sort;
+import metrics.Probe;
 
 public final class MergeSort implements Sort {
 
@@ -22,6 +23,8 @@ public final class MergeSort implements Sort {
 
         int k = l;
         while (i < n1 && j < n2) {
+            Probe.comparison();
+            Probe.move();
             if (L[i] <= R[j]) {
                 arr[k] = L[i];
                 i++;
@@ -33,12 +36,14 @@ public final class MergeSort implements Sort {
         }
 
         while (i < n1) {
+            Probe.move();
             arr[k] = L[i];
             i++;
             k++;
         }
 
         while (j < n2) {
+            Probe.move();
             arr[k] = R[j];
             j++;
             k++;
@@ -49,6 +54,7 @@ public final class MergeSort implements Sort {
     public void sort(int[] arr, int low, int high) {
 
         if (low < high) {
+            Probe.enter();
 
             int m = low + (high - low) / 2;
 
@@ -56,6 +62,7 @@ public final class MergeSort implements Sort {
             sort(arr, m + 1, high);
 
             merge(arr, low, m, high);
+            Probe.exit();
         }
     }
 }
@@ -0,0 +1,88 @@
+package usecases;
+
+import entities.PointPair;
+import interfaces.Find;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join version of {@link IndexedClosestPair}: above the cutoff the left and
+ * right halves are solved concurrently, each with its own best pair, and the
+ * strip is scanned once both have finished.
+ */
+public final class ParallelClosestPair implements Find {
+    private static final int DEFAULT_CUTOFF = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int cutoff;
+
+    public ParallelClosestPair() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CUTOFF);
+    }
+
+    public ParallelClosestPair(int cutoff) {
+        this(ForkJoinPool.commonPool(), cutoff);
+    }
+
+    public ParallelClosestPair(ForkJoinPool pool, int cutoff) {
+        if (cutoff < 4) {
+            throw new IllegalArgumentException("cutoff must be at least 4");
+        }
+        this.pool = pool;
+        this.cutoff = cutoff;
+    }
+
+    @Override
+    public double find(double[][] points) {
+        if (points.length < 2) return Double.MAX_VALUE;
+
+        return solve(PointSet.fromArrays(points)).distance;
+    }
+
+    public PointPair find(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs and ys must have the same length");
+        }
+        if (xs.length < 2) {
+            throw new IllegalArgumentException("At least two points are required");
+        }
+        return solve(PointSet.sortedByX(xs, ys));
+    }
+
+    private PointPair solve(PointSet set) {
+        PointSet.Best best = pool.invoke(new SolveTask(set, 0, set.px.length));
+        return set.toPair(best);
+    }
+
+    @SuppressWarnings("serial")
+    private final class SolveTask extends RecursiveTask<PointSet.Best> {
+        private final PointSet set;
+        private final int lo;
+        private final int hi;
+
+        SolveTask(PointSet set, int lo, int hi) {
+            this.set = set;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected PointSet.Best compute() {
+            if (hi - lo <= cutoff) {
+                PointSet.Best best = new PointSet.Best();
+                set.solve(lo, hi, best);
+                return best;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            SolveTask left = new SolveTask(set, lo, mid);
+            left.fork();
+            PointSet.Best best = new SolveTask(set, mid, hi).compute();
+            best.offer(left.join());
+
+            set.combine(lo, mid, hi, best);
+            return best;
+        }
+    }
+}
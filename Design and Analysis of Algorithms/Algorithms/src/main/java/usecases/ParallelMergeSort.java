@@ -0,0 +1,186 @@
+package usecases;
+
+import interfaces.Sort;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join merge sort that ping-pongs between the input range and a single
+ * scratch buffer allocated once per {@link #sort} call.
+ */
+public final class ParallelMergeSort implements Sort {
+    private static final int DEFAULT_CUTOFF = 1 << 13;
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private final ForkJoinPool pool;
+    private final int cutoff;
+
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CUTOFF);
+    }
+
+    public ParallelMergeSort(int cutoff) {
+        this(ForkJoinPool.commonPool(), cutoff);
+    }
+
+    public ParallelMergeSort(ForkJoinPool pool, int cutoff) {
+        if (cutoff < INSERTION_THRESHOLD) {
+            throw new IllegalArgumentException("cutoff must be at least " + INSERTION_THRESHOLD);
+        }
+        this.pool = pool;
+        this.cutoff = cutoff;
+    }
+
+    @Override
+    public void sort(int[] arr, int low, int high) {
+        if (low >= high) return;
+
+        int n = high - low + 1;
+        int[] scratch = Arrays.copyOfRange(arr, low, high + 1);
+
+        if (n <= cutoff) {
+            sortInto(scratch, 0, arr, low, n);
+        } else {
+            pool.invoke(new SortTask(scratch, 0, arr, low, n));
+        }
+    }
+
+    // Both ranges hold the same values on entry; on exit dst[dstOff, dstOff + n) is sorted.
+    private static void sortInto(int[] src, int srcOff, int[] dst, int dstOff, int n) {
+        if (n <= INSERTION_THRESHOLD) {
+            insertionSort(dst, dstOff, dstOff + n - 1);
+            return;
+        }
+
+        int half = n >>> 1;
+        sortInto(dst, dstOff, src, srcOff, half);
+        sortInto(dst, dstOff + half, src, srcOff + half, n - half);
+        merge(src, srcOff, half, src, srcOff + half, n - half, dst, dstOff);
+    }
+
+    private static void insertionSort(int[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void merge(int[] a, int aOff, int aLen, int[] b, int bOff, int bLen, int[] dst, int dstOff) {
+        if (aLen == 0) {
+            System.arraycopy(b, bOff, dst, dstOff, bLen);
+            return;
+        }
+        if (bLen == 0 || a[aOff + aLen - 1] <= b[bOff]) {
+            System.arraycopy(a, aOff, dst, dstOff, aLen);
+            System.arraycopy(b, bOff, dst, dstOff + aLen, bLen);
+            return;
+        }
+
+        int i = aOff, aEnd = aOff + aLen;
+        int j = bOff, bEnd = bOff + bLen;
+        int k = dstOff;
+        while (i < aEnd && j < bEnd) {
+            if (a[i] <= b[j]) {
+                dst[k++] = a[i++];
+            } else {
+                dst[k++] = b[j++];
+            }
+        }
+        if (i < aEnd) System.arraycopy(a, i, dst, k, aEnd - i);
+        if (j < bEnd) System.arraycopy(b, j, dst, k, bEnd - j);
+    }
+
+    // First index in [from, from + len) whose value is not less than key.
+    private static int lowerBound(int[] arr, int from, int len, int key) {
+        int lo = from, hi = from + len;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    @SuppressWarnings("serial")
+    private final class SortTask extends RecursiveAction {
+        private final int[] src;
+        private final int srcOff;
+        private final int[] dst;
+        private final int dstOff;
+        private final int n;
+
+        SortTask(int[] src, int srcOff, int[] dst, int dstOff, int n) {
+            this.src = src;
+            this.srcOff = srcOff;
+            this.dst = dst;
+            this.dstOff = dstOff;
+            this.n = n;
+        }
+
+        @Override
+        protected void compute() {
+            if (n <= cutoff) {
+                sortInto(src, srcOff, dst, dstOff, n);
+                return;
+            }
+
+            int half = n >>> 1;
+            invokeAll(new SortTask(dst, dstOff, src, srcOff, half),
+                    new SortTask(dst, dstOff + half, src, srcOff + half, n - half));
+            new MergeTask(src, srcOff, half, src, srcOff + half, n - half, dst, dstOff).compute();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class MergeTask extends RecursiveAction {
+        private final int[] a;
+        private final int aOff;
+        private final int aLen;
+        private final int[] b;
+        private final int bOff;
+        private final int bLen;
+        private final int[] dst;
+        private final int dstOff;
+
+        MergeTask(int[] a, int aOff, int aLen, int[] b, int bOff, int bLen, int[] dst, int dstOff) {
+            this.a = a;
+            this.aOff = aOff;
+            this.aLen = aLen;
+            this.b = b;
+            this.bOff = bOff;
+            this.bLen = bLen;
+            this.dst = dst;
+            this.dstOff = dstOff;
+        }
+
+        @Override
+        protected void compute() {
+            if (aLen + bLen <= cutoff) {
+                merge(a, aOff, aLen, b, bOff, bLen, dst, dstOff);
+                return;
+            }
+            if (aLen < bLen) {
+                new MergeTask(b, bOff, bLen, a, aOff, aLen, dst, dstOff).compute();
+                return;
+            }
+
+            int aMid = aOff + (aLen >>> 1);
+            int bSplit = lowerBound(b, bOff, bLen, a[aMid]);
+            int leftA = aMid - aOff;
+            int leftB = bSplit - bOff;
+
+            invokeAll(new MergeTask(a, aOff, leftA, b, bOff, leftB, dst, dstOff),
+                    new MergeTask(a, aMid, aLen - leftA, b, bSplit, bLen - leftB, dst, dstOff + leftA + leftB));
+        }
+    }
+}
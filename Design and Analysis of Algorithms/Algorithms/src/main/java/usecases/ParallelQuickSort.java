@@ -0,0 +1,113 @@
+package usecases;
+
+import interfaces.Sort;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * In-place fork/join quicksort. Ranges above the threshold are 3-way partitioned
+ * and the smaller side is forked; smaller ranges are finished by {@link IntroSort}.
+ */
+public final class ParallelQuickSort implements Sort {
+    private static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final IntroSort sequential = new IntroSort();
+
+    public ParallelQuickSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelQuickSort(int threshold) {
+        this(ForkJoinPool.commonPool(), threshold);
+    }
+
+    public ParallelQuickSort(ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("threshold must be at least 2");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void sort(int[] arr, int low, int high) {
+        if (low >= high) return;
+
+        if (high - low + 1 <= threshold) {
+            sequential.sort(arr, low, high);
+        } else {
+            int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+            pool.invoke(new SortTask(arr, low, high, depthLimit));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class SortTask extends RecursiveAction {
+        private final int[] arr;
+        private final int low;
+        private final int high;
+        private final int depthLimit;
+        private SortTask next;
+
+        SortTask(int[] arr, int low, int high, int depthLimit) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.depthLimit = depthLimit;
+        }
+
+        @Override
+        protected void compute() {
+            int lo = low, hi = high, depth = depthLimit;
+            SortTask forked = null;
+
+            while (hi - lo + 1 > threshold && depth-- > 0) {
+                int pivot = IntroSort.choosePivot(arr, lo, hi);
+
+                int lt = lo, i = lo, gt = hi;
+                while (i <= gt) {
+                    int value = arr[i];
+                    if (value < pivot) {
+                        swap(arr, lt++, i++);
+                    } else if (value > pivot) {
+                        swap(arr, i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+
+                SortTask task;
+                if (lt - lo < hi - gt) {
+                    task = new SortTask(arr, lo, lt - 1, depth);
+                    lo = gt + 1;
+                } else {
+                    task = new SortTask(arr, gt + 1, hi, depth);
+                    hi = lt - 1;
+                }
+                task.next = forked;
+                forked = task;
+                task.fork();
+            }
+
+            sequential.sort(arr, lo, hi);
+
+            while (forked != null) {
+                if (forked.tryUnfork()) {
+                    forked.compute();
+                } else {
+                    forked.join();
+                }
+                forked = forked.next;
+            }
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,221 @@
+package usecases;
+
+import interfaces.Select;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sample-based parallel selection. Each round sorts a random sample and takes two
+ * splitters that bracket the target rank with high probability. The keys below the
+ * low splitter, equal to it, strictly between the splitters, equal to the high
+ * splitter and above it are counted per chunk in parallel. If the rank falls among
+ * the keys equal to a splitter, that splitter is the answer. Otherwise the band
+ * holding the rank is compacted into a new array in parallel. Both splitters occur in
+ * the data and are never copied, so every round shrinks the input, including on
+ * low-cardinality data. Rounds repeat until the band fits under the threshold,
+ * which {@link IntroSelect} then finishes sequentially. The input array is not
+ * modified.
+ */
+public final class ParallelSelect implements Select {
+    private static final int DEFAULT_THRESHOLD = 1 << 16;
+    private static final int MIN_THRESHOLD = 1 << 10;
+    private static final int SAMPLE_SIZE = 1 << 14;
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    // Per-chunk count slots; the two splitter slots are only summed, never compacted.
+    private static final int LESS = 0;
+    private static final int EQUAL_LOW = 1;
+    private static final int BETWEEN = 2;
+    private static final int EQUAL_HIGH = 3;
+    private static final int GREATER = 4;
+    private static final int SLOTS = 5;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelSelect() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelSelect(int threshold) {
+        this(ForkJoinPool.commonPool(), threshold);
+    }
+
+    public ParallelSelect(ForkJoinPool pool, int threshold) {
+        if (threshold < MIN_THRESHOLD) {
+            throw new IllegalArgumentException("threshold must be at least " + MIN_THRESHOLD);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public int select(int[] arr, int k) {
+        if (k < 1 || k > arr.length) {
+            throw new IllegalArgumentException("k is out of bounds");
+        }
+
+        int[] data = arr;
+        int size = arr.length;
+        int rank = k - 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (size > threshold) {
+            int[] sample = new int[Math.min(SAMPLE_SIZE, size)];
+            for (int i = 0; i < sample.length; i++) {
+                sample[i] = data[random.nextInt(size)];
+            }
+            Arrays.sort(sample);
+
+            int position = (int) ((double) rank / size * sample.length);
+            int delta = (int) Math.ceil(Math.sqrt(sample.length * Math.log(size)));
+            int lowSplitter = sample[Math.max(0, position - delta)];
+            int highSplitter = sample[Math.min(sample.length - 1, position + delta)];
+
+            int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            int[] counts = new int[SLOTS * chunks];
+            pool.invoke(new CountTask(data, size, lowSplitter, highSplitter, counts, 0, chunks));
+
+            int[] totals = new int[SLOTS];
+            for (int c = 0; c < chunks; c++) {
+                for (int slot = 0; slot < SLOTS; slot++) {
+                    totals[slot] += counts[SLOTS * c + slot];
+                }
+            }
+
+            int target = LESS;
+            while (rank >= totals[target]) {
+                rank -= totals[target++];
+            }
+            if (target == EQUAL_LOW) return lowSplitter;
+            if (target == EQUAL_HIGH) return highSplitter;
+            int targetSize = totals[target];
+
+            int[] offsets = new int[chunks];
+            for (int c = 0, offset = 0; c < chunks; c++) {
+                offsets[c] = offset;
+                offset += counts[SLOTS * c + target];
+            }
+            int[] next = new int[targetSize];
+            pool.invoke(new CompactTask(data, size, lowSplitter, highSplitter, target, offsets, next, 0, chunks));
+
+            data = next;
+            size = targetSize;
+        }
+
+        int[] rest = data == arr ? Arrays.copyOf(arr, size) : data;
+        return rest[IntroSelect.selectIndex(rest, 0, size - 1, rank)];
+    }
+
+    // Counts, for chunks [fromChunk, toChunk), the keys in each of the five slots.
+    @SuppressWarnings("serial")
+    private static final class CountTask extends RecursiveAction {
+        private final int[] data;
+        private final int size;
+        private final int lowSplitter;
+        private final int highSplitter;
+        private final int[] counts;
+        private final int fromChunk;
+        private final int toChunk;
+
+        CountTask(int[] data, int size, int lowSplitter, int highSplitter, int[] counts, int fromChunk, int toChunk) {
+            this.data = data;
+            this.size = size;
+            this.lowSplitter = lowSplitter;
+            this.highSplitter = highSplitter;
+            this.counts = counts;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int mid = (fromChunk + toChunk) >>> 1;
+                invokeAll(new CountTask(data, size, lowSplitter, highSplitter, counts, fromChunk, mid),
+                        new CountTask(data, size, lowSplitter, highSplitter, counts, mid, toChunk));
+                return;
+            }
+
+            int less = 0, equalLow = 0, equalHigh = 0, greater = 0;
+            int start = fromChunk * CHUNK_SIZE, end = Math.min(size, start + CHUNK_SIZE);
+            // Branch-free counting: around the target rank the comparisons are coin flips.
+            for (int i = start; i < end; i++) {
+                int value = data[i];
+                less += value < lowSplitter ? 1 : 0;
+                equalLow += value == lowSplitter ? 1 : 0;
+                equalHigh += value == highSplitter ? 1 : 0;
+                greater += value > highSplitter ? 1 : 0;
+            }
+            if (lowSplitter == highSplitter) equalHigh = 0;
+
+            int base = SLOTS * fromChunk;
+            counts[base + LESS] = less;
+            counts[base + EQUAL_LOW] = equalLow;
+            counts[base + BETWEEN] = end - start - less - equalLow - equalHigh - greater;
+            counts[base + EQUAL_HIGH] = equalHigh;
+            counts[base + GREATER] = greater;
+        }
+    }
+
+    // Copies the keys of the target slot (LESS, BETWEEN or GREATER) from chunks [fromChunk, toChunk) to their offsets in next.
+    @SuppressWarnings("serial")
+    private static final class CompactTask extends RecursiveAction {
+        private final int[] data;
+        private final int size;
+        private final int lowSplitter;
+        private final int highSplitter;
+        private final int target;
+        private final int[] offsets;
+        private final int[] next;
+        private final int fromChunk;
+        private final int toChunk;
+
+        CompactTask(int[] data, int size, int lowSplitter, int highSplitter, int target,
+                    int[] offsets, int[] next, int fromChunk, int toChunk) {
+            this.data = data;
+            this.size = size;
+            this.lowSplitter = lowSplitter;
+            this.highSplitter = highSplitter;
+            this.target = target;
+            this.offsets = offsets;
+            this.next = next;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int mid = (fromChunk + toChunk) >>> 1;
+                invokeAll(new CompactTask(data, size, lowSplitter, highSplitter, target, offsets, next, fromChunk, mid),
+                        new CompactTask(data, size, lowSplitter, highSplitter, target, offsets, next, mid, toChunk));
+                return;
+            }
+
+            int k = offsets[fromChunk];
+            int start = fromChunk * CHUNK_SIZE, end = Math.min(size, start + CHUNK_SIZE);
+            if (target == BETWEEN) {
+                // One unsigned comparison tests lowSplitter < value < highSplitter, and it is rarely true.
+                int width = highSplitter - lowSplitter - 1;
+                for (int i = start; i < end; i++) {
+                    int value = data[i];
+                    if (Integer.compareUnsigned(value - lowSplitter - 1, width) < 0) next[k++] = value;
+                }
+            } else if (target == LESS) {
+                for (int i = start; i < end; i++) {
+                    int value = data[i];
+                    if (value < lowSplitter) next[k++] = value;
+                }
+            } else {
+                for (int i = start; i < end; i++) {
+                    int value = data[i];
+                    if (value > highSplitter) next[k++] = value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package usecases;
+
+import entities.PointPair;
+
+/**
+ * Struct-of-arrays point storage shared by the divide and conquer closest pair
+ * engines. Points are copied into x order once; {@code yOrder} holds positions
+ * into that order and is rebuilt bottom-up by merging, so no level re-sorts.
+ * Splitting one presorted y order top-down would also fit in O(n) extra space,
+ * but every split would need each point's x position to put points that share
+ * the median x on the correct side. Merging gets the same order without that lookup.
+ */
+final class PointSet {
+    final double[] px;
+    final double[] py;
+    final int[] ids;
+    final int[] yOrder;
+    final int[] scratch;
+
+    private PointSet(double[] px, double[] py, int[] ids) {
+        this.px = px;
+        this.py = py;
+        this.ids = ids;
+        this.yOrder = new int[px.length];
+        this.scratch = new int[px.length];
+        for (int i = 0; i < yOrder.length; i++) {
+            yOrder[i] = i;
+        }
+    }
+
+    static PointSet sortedByX(double[] xs, double[] ys) {
+        int n = xs.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        sortIndices(order, xs, new int[n]);
+
+        double[] px = new double[n];
+        double[] py = new double[n];
+        for (int i = 0; i < n; i++) {
+            px[i] = xs[order[i]];
+            py[i] = ys[order[i]];
+        }
+        return new PointSet(px, py, order);
+    }
+
+    static PointSet fromArrays(double[][] points) {
+        double[] xs = new double[points.length];
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i][0];
+            ys[i] = points[i][1];
+        }
+        return sortedByX(xs, ys);
+    }
+
+    // Closest pair inside x positions [lo, hi); leaves yOrder[lo, hi) sorted by y.
+    void solve(int lo, int hi, Best best) {
+        if (hi - lo <= 3) {
+            bruteForce(lo, hi, best);
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        solve(lo, mid, best);
+        solve(mid, hi, best);
+        combine(lo, mid, hi, best);
+    }
+
+    void bruteForce(int lo, int hi, Best best) {
+        for (int i = lo; i < hi; i++) {
+            for (int j = i + 1; j < hi; j++) {
+                best.offer(i, j, distanceSquared(i, j));
+            }
+        }
+
+        for (int i = lo + 1; i < hi; i++) {
+            int key = yOrder[i];
+            int j = i - 1;
+            while (j >= lo && py[yOrder[j]] > py[key]) {
+                yOrder[j + 1] = yOrder[j];
+                j--;
+            }
+            yOrder[j + 1] = key;
+        }
+    }
+
+    // Merges the y orders of [lo, mid) and [mid, hi), then scans the strip around px[mid].
+    void combine(int lo, int mid, int hi, Best best) {
+        double midX = px[mid];
+
+        int i = lo, j = mid, k = lo;
+        while (i < mid && j < hi) {
+            scratch[k++] = py[yOrder[i]] <= py[yOrder[j]] ? yOrder[i++] : yOrder[j++];
+        }
+        while (i < mid) scratch[k++] = yOrder[i++];
+        while (j < hi) scratch[k++] = yOrder[j++];
+        System.arraycopy(scratch, lo, yOrder, lo, hi - lo);
+
+        double d = Math.sqrt(best.distanceSquared);
+        int stripSize = lo;
+        for (int p = lo; p < hi; p++) {
+            int pos = yOrder[p];
+            if (Math.abs(px[pos] - midX) < d) {
+                scratch[stripSize++] = pos;
+            }
+        }
+
+        for (int a = lo; a < stripSize; a++) {
+            int pa = scratch[a];
+            for (int b = a + 1; b < stripSize; b++) {
+                int pb = scratch[b];
+                double dy = py[pb] - py[pa];
+                if (dy * dy >= best.distanceSquared) break;
+                best.offer(pa, pb, distanceSquared(pa, pb));
+            }
+        }
+    }
+
+    double distanceSquared(int a, int b) {
+        double dx = px[a] - px[b];
+        double dy = py[a] - py[b];
+        return dx * dx + dy * dy;
+    }
+
+    PointPair toPair(Best best) {
+        int a = ids[best.first];
+        int b = ids[best.second];
+        return new PointPair(Math.min(a, b), Math.max(a, b), Math.sqrt(best.distanceSquared));
+    }
+
+    // Stable bottom-up merge sort of indices by key.
+    static void sortIndices(int[] idx, double[] key, int[] buffer) {
+        int n = idx.length;
+        int[] src = idx, dst = buffer;
+        for (int width = 1; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                int i = lo, j = mid, k = lo;
+                while (i < mid && j < hi) {
+                    dst[k++] = key[src[j]] < key[src[i]] ? src[j++] : src[i++];
+                }
+                while (i < mid) dst[k++] = src[i++];
+                while (j < hi) dst[k++] = src[j++];
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != idx) {
+            System.arraycopy(src, 0, idx, 0, n);
+        }
+    }
+
+    static final class Best {
+        double distanceSquared = Double.POSITIVE_INFINITY;
+        int first = -1;
+        int second = -1;
+
+        void offer(int a, int b, double d2) {
+            if (d2 < distanceSquared) {
+                distanceSquared = d2;
+                first = a;
+                second = b;
+            }
+        }
+
+        void offer(Best other) {
+            offer(other.first, other.second, other.distanceSquared);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package usecases;
+
+import interfaces.Sort;
+
+/**
+ * Powersort: an adaptive natural merge sort for data made of already sorted
+ * segments. The range is split into maximal runs: ascending runs are kept and
+ * strictly descending ones are reversed. Runs shorter than {@link #MIN_RUN} are
+ * extended with binary insertion sort.
+ *
+ * <p>The merge order follows the powersort rule of Munro and Wild: every boundary
+ * between two neighbouring runs gets a power, the depth at which the midpoints of the
+ * two runs are separated in a perfectly balanced binary split of the range. Runs on
+ * the stack are merged while the boundary below them is deeper than the new one. That
+ * keeps the merge tree within a constant of the optimal cost for the run lengths, so
+ * k runs cost O(n log k) and sorted input costs n - 1 comparisons and no merges.
+ *
+ * <p>A merge first trims elements already in place at both ends, copies the shorter
+ * run to a buffer and, once one side wins {@link #GALLOP_THRESHOLD} times in a row,
+ * moves the whole block it keeps winning with an exponential search.
+ *
+ * <p>The sorter keeps no state between calls. {@link #sortWithReport} returns how
+ * many runs a call found and how many merges had to move elements.
+ */
+public final class PowerSort implements Sort {
+    private static final int MIN_RUN = 32;
+    private static final int GALLOP_THRESHOLD = 8;
+
+    @Override
+    public void sort(int[] arr, int low, int high) {
+        sortWithReport(arr, low, high);
+    }
+
+    public Report sortWithReport(int[] arr, int low, int high) {
+        Report report = new Report();
+        int end = high + 1;
+        if (end - low < 2) {
+            report.runCount = end > low ? 1 : 0;
+            return report;
+        }
+
+        Merger merger = new Merger(arr, end - low);
+        // Powers on the stack strictly increase and never exceed 33, so 34 slots are enough.
+        int[] stackStart = new int[34];
+        int[] stackPower = new int[34];
+        int top = 0;
+
+        int start = low;
+        int runEnd = nextRun(arr, start, end);
+        report.runCount = 1;
+        while (runEnd < end) {
+            int nextEnd = nextRun(arr, runEnd, end);
+            report.runCount++;
+            int power = nodePower(end - low, start - low, runEnd - low, nextEnd - low);
+            while (top > 0 && stackPower[top - 1] > power) {
+                top--;
+                merger.merge(stackStart[top], start, runEnd);
+                start = stackStart[top];
+            }
+            stackStart[top] = start;
+            stackPower[top++] = power;
+            start = runEnd;
+            runEnd = nextEnd;
+        }
+        while (top > 0) {
+            top--;
+            merger.merge(stackStart[top], start, end);
+            start = stackStart[top];
+        }
+        report.mergeCount = merger.merges;
+        return report;
+    }
+
+    // Returns the end of the run starting at 'from', sorted and at least MIN_RUN long unless the range ends.
+    private static int nextRun(int[] arr, int from, int to) {
+        int last = from + 1;
+        if (last == to) return to;
+
+        if (arr[last] < arr[from]) {
+            while (last + 1 < to && arr[last + 1] < arr[last]) last++;
+            reverse(arr, from, last);
+        } else {
+            while (last + 1 < to && arr[last + 1] >= arr[last]) last++;
+        }
+
+        int runEnd = last + 1;
+        int forcedEnd = Math.min(from + MIN_RUN, to);
+        if (runEnd < forcedEnd) {
+            binaryInsertionSort(arr, from, runEnd, forcedEnd);
+            runEnd = forcedEnd;
+        }
+        return runEnd;
+    }
+
+    /**
+     * Power of the boundary between runs [begin, mid) and [mid, end) in a range of
+     * length n: the first bit at which the binary fractions of the two run midpoints,
+     * (begin + mid) / 2n and (mid + end) / 2n, differ.
+     */
+    private static int nodePower(int n, int begin, int mid, int end) {
+        long denominator = 2L * n;
+        long a = (long) begin + mid;
+        long b = (long) mid + end;
+        int power = 0;
+        while (true) {
+            power++;
+            a <<= 1;
+            b <<= 1;
+            boolean aBit = a >= denominator;
+            boolean bBit = b >= denominator;
+            if (aBit != bBit) return power;
+            if (aBit) {
+                a -= denominator;
+                b -= denominator;
+            }
+        }
+    }
+
+    private static void reverse(int[] arr, int i, int j) {
+        while (i < j) {
+            int temp = arr[i];
+            arr[i++] = arr[j];
+            arr[j--] = temp;
+        }
+    }
+
+    // arr[from, sortedEnd) is sorted; inserts arr[sortedEnd, to) one by one at the position found by binary search.
+    private static void binaryInsertionSort(int[] arr, int from, int sortedEnd, int to) {
+        for (int i = sortedEnd; i < to; i++) {
+            int key = arr[i];
+            int position = upperBound(arr, from, i, key);
+            System.arraycopy(arr, position, arr, position + 1, i - position);
+            arr[position] = key;
+        }
+    }
+
+    // First index in [from, to) whose value is >= key.
+    private static int lowerBound(int[] a, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (a[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    // First index in [from, to) whose value is > key.
+    private static int upperBound(int[] a, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (a[mid] <= key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    // lowerBound found by probing from, from + 1, from + 3, from + 7, ... before the binary search.
+    private static int gallopLowerBound(int[] a, int from, int to, int key) {
+        int probe = from, step = 1;
+        while (probe < to && a[probe] < key) {
+            from = probe + 1;
+            probe = to - probe > step ? probe + step : to;
+            step <<= 1;
+        }
+        return lowerBound(a, from, probe, key);
+    }
+
+    private static int gallopUpperBound(int[] a, int from, int to, int key) {
+        int probe = from, step = 1;
+        while (probe < to && a[probe] <= key) {
+            from = probe + 1;
+            probe = to - probe > step ? probe + step : to;
+            step <<= 1;
+        }
+        return upperBound(a, from, probe, key);
+    }
+
+    // Mirror images of the two searches above, probing backwards from to - 1.
+    private static int gallopLowerBoundFromRight(int[] a, int from, int to, int key) {
+        int probe = to - 1, step = 1;
+        while (probe >= from && a[probe] >= key) {
+            to = probe;
+            probe = probe - from >= step ? probe - step : from - 1;
+            step <<= 1;
+        }
+        return lowerBound(a, probe + 1, to, key);
+    }
+
+    private static int gallopUpperBoundFromRight(int[] a, int from, int to, int key) {
+        int probe = to - 1, step = 1;
+        while (probe >= from && a[probe] > key) {
+            to = probe;
+            probe = probe - from >= step ? probe - step : from - 1;
+            step <<= 1;
+        }
+        return upperBound(a, probe + 1, to, key);
+    }
+
+    // Merge buffer for one sort call; it grows on demand up to half the range.
+    private static final class Merger {
+        private final int[] arr;
+        private final int maxBuffer;
+        private int[] buffer = new int[0];
+        private int merges;
+
+        Merger(int[] arr, int n) {
+            this.arr = arr;
+            this.maxBuffer = (n + 1) / 2;
+        }
+
+        // Merges the sorted neighbours arr[low, mid) and arr[mid, high).
+        void merge(int low, int mid, int high) {
+            if (arr[mid - 1] <= arr[mid]) return;
+            merges++;
+
+            low = upperBound(arr, low, mid, arr[mid]);
+            high = lowerBound(arr, mid, high, arr[mid - 1]);
+            if (mid - low <= high - mid) {
+                mergeForward(low, mid, high);
+            } else {
+                mergeBackward(low, mid, high);
+            }
+        }
+
+        private int[] buffer(int length) {
+            if (buffer.length < length) {
+                buffer = new int[Math.max(length, Math.min(2 * buffer.length, maxBuffer))];
+            }
+            return buffer;
+        }
+
+        // Left run goes to the buffer; the output fills arr from the left.
+        private void mergeForward(int low, int mid, int high) {
+            int length = mid - low;
+            int[] buf = buffer(length);
+            System.arraycopy(arr, low, buf, 0, length);
+
+            int i = 0, j = mid, k = low;
+            int leftStreak = 0, rightStreak = 0;
+            while (i < length && j < high) {
+                if (arr[j] < buf[i]) {
+                    arr[k++] = arr[j++];
+                    leftStreak = 0;
+                    if (++rightStreak >= GALLOP_THRESHOLD && j < high) {
+                        int stop = gallopLowerBound(arr, j, high, buf[i]);
+                        System.arraycopy(arr, j, arr, k, stop - j);
+                        k += stop - j;
+                        j = stop;
+                        rightStreak = 0;
+                    }
+                } else {
+                    arr[k++] = buf[i++];
+                    rightStreak = 0;
+                    if (++leftStreak >= GALLOP_THRESHOLD && i < length) {
+                        int stop = gallopUpperBound(buf, i, length, arr[j]);
+                        System.arraycopy(buf, i, arr, k, stop - i);
+                        k += stop - i;
+                        i = stop;
+                        leftStreak = 0;
+                    }
+                }
+            }
+            // Whatever is left of the right run is already in place.
+            System.arraycopy(buf, i, arr, k, length - i);
+        }
+
+        // Right run goes to the buffer; the output fills arr from the right.
+        private void mergeBackward(int low, int mid, int high) {
+            int length = high - mid;
+            int[] buf = buffer(length);
+            System.arraycopy(arr, mid, buf, 0, length);
+
+            int i = length - 1, j = mid - 1, k = high - 1;
+            int leftStreak = 0, rightStreak = 0;
+            while (i >= 0 && j >= low) {
+                if (buf[i] < arr[j]) {
+                    arr[k--] = arr[j--];
+                    rightStreak = 0;
+                    if (++leftStreak >= GALLOP_THRESHOLD && j >= low) {
+                        int start = gallopUpperBoundFromRight(arr, low, j + 1, buf[i]);
+                        int count = j + 1 - start;
+                        System.arraycopy(arr, start, arr, k - count + 1, count);
+                        k -= count;
+                        j -= count;
+                        leftStreak = 0;
+                    }
+                } else {
+                    arr[k--] = buf[i--];
+                    leftStreak = 0;
+                    if (++rightStreak >= GALLOP_THRESHOLD && i >= 0) {
+                        int start = gallopLowerBoundFromRight(buf, 0, i + 1, arr[j]);
+                        int count = i + 1 - start;
+                        System.arraycopy(buf, start, arr, k - count + 1, count);
+                        k -= count;
+                        i -= count;
+                        rightStreak = 0;
+                    }
+                }
+            }
+            // Whatever is left of the left run is already in place.
+            System.arraycopy(buf, 0, arr, low, i + 1);
+        }
+    }
+
+    public static final class Report {
+        private int runCount;
+        private int mergeCount;
+
+        // Runs found after extending short ones.
+        public int getRunCount() { return runCount; }
+        // Merges that had to move elements; runs already in order are skipped.
+        public int getMergeCount() { return mergeCount; }
+
+        @Override
+        public String toString() {
+            return String.format("runs=%d, merges=%d", runCount, mergeCount);
+        }
+    }
+}
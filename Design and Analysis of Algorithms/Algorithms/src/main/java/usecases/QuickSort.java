@@ -1,6 +1,7 @@
 package usecases;
 
 import interfaces.Sort;
+import metrics.Probe;
 
 public final class QuickSort implements Sort {
     private int partition(int[] arr, int low, int high) {
@@ -10,6 +11,7 @@ public final class QuickSort implements Sort {
         int i = low - 1;
 
         for (int j = low; j <= high - 1; j++) {
+            Probe.comparison();
             if (arr[j] < pivot) {
                 i++;
                 swap(arr, i, j);
@@ -22,6 +24,7 @@ public final class QuickSort implements Sort {
     }
 
     private void swap(int[] arr, int i, int j) {
+        Probe.swap();
         int temp = arr[i];
         arr[i] = arr[j];
         arr[j] = temp;
@@ -30,11 +33,13 @@ public final class QuickSort implements Sort {
     @Override
     public void sort(int[] arr, int low, int high) {
         if (low < high) {
+            Probe.enter();
 
             int pi = partition(arr, low, high);
 
             sort(arr, low, pi - 1);
             sort(arr, pi + 1, high);
+            Probe.exit();
         }
     }
 }
@@ -0,0 +1,223 @@
+package usecases;
+
+import interfaces.Sort;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Byte-wise radix sort for signed 32-bit keys. The sign bit is flipped in the top
+ * digit so negative keys order first.
+ *
+ * <p>{@link Mode#LSD} makes up to four stable passes between the input and one
+ * scratch buffer and skips a pass when every key shares that byte.
+ * {@link Mode#MSD} is an in-place American flag sort for memory-tight runs.
+ * Histograms for large ranges are built in parallel over chunks.
+ */
+public final class RadixSort implements Sort {
+    public enum Mode { LSD, MSD }
+
+    private static final int RADIX = 256;
+    private static final int INSERTION_THRESHOLD = 64;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int HISTOGRAM_CHUNK = 1 << 15;
+
+    private final Mode mode;
+    private final ForkJoinPool pool;
+
+    public RadixSort() {
+        this(Mode.LSD);
+    }
+
+    public RadixSort(Mode mode) {
+        this(mode, ForkJoinPool.commonPool());
+    }
+
+    public RadixSort(Mode mode, ForkJoinPool pool) {
+        this.mode = mode;
+        this.pool = pool;
+    }
+
+    @Override
+    public void sort(int[] arr, int low, int high) {
+        if (low >= high) return;
+
+        if (high - low + 1 <= INSERTION_THRESHOLD) {
+            insertionSort(arr, low, high + 1);
+        } else if (mode == Mode.LSD) {
+            lsd(arr, low, high + 1);
+        } else {
+            int[][] counts = new int[4][RADIX];
+            int[] histogram = histogram(arr, low, high + 1);
+            System.arraycopy(histogram, 3 * RADIX, counts[3], 0, RADIX);
+            americanFlag(arr, low, high + 1, 3, counts, new int[RADIX], true);
+        }
+    }
+
+    private void lsd(int[] arr, int from, int to) {
+        int n = to - from;
+        int[] counts = histogram(arr, from, to);
+        int[] scratch = new int[n];
+        int[] offsets = new int[RADIX];
+
+        int[] src = arr, dst = scratch;
+        int srcOff = from, dstOff = 0;
+
+        for (int level = 0; level < 4; level++) {
+            int base = level * RADIX;
+            if (isTrivial(counts, base, n)) continue;
+
+            int sum = 0;
+            for (int b = 0; b < RADIX; b++) {
+                offsets[b] = sum;
+                sum += counts[base + b];
+            }
+
+            int shift = level * 8;
+            int flip = level == 3 ? 0x80 : 0;
+            for (int i = srcOff, end = srcOff + n; i < end; i++) {
+                int value = src[i];
+                dst[dstOff + offsets[((value >>> shift) & 0xFF) ^ flip]++] = value;
+            }
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpOff = srcOff;
+            srcOff = dstOff;
+            dstOff = tmpOff;
+        }
+
+        if (src != arr) {
+            System.arraycopy(src, srcOff, arr, from, n);
+        }
+    }
+
+    // Sorts arr[from, to) by digits level..0; counts[level] may already hold the histogram.
+    private void americanFlag(int[] arr, int from, int to, int level, int[][] counts, int[] next, boolean counted) {
+        int n = to - from;
+        if (n <= INSERTION_THRESHOLD) {
+            insertionSort(arr, from, to);
+            return;
+        }
+
+        int shift = level * 8;
+        int flip = level == 3 ? 0x80 : 0;
+        int[] count = counts[level];
+        if (!counted) {
+            Arrays.fill(count, 0);
+            for (int i = from; i < to; i++) {
+                count[((arr[i] >>> shift) & 0xFF) ^ flip]++;
+            }
+        }
+
+        if (isTrivial(count, 0, n)) {
+            if (level > 0) americanFlag(arr, from, to, level - 1, counts, next, false);
+            return;
+        }
+
+        int sum = from;
+        for (int b = 0; b < RADIX; b++) {
+            next[b] = sum;
+            sum += count[b];
+        }
+
+        int bucketEnd = from;
+        for (int b = 0; b < RADIX; b++) {
+            bucketEnd += count[b];
+            while (next[b] < bucketEnd) {
+                int value = arr[next[b]];
+                int digit = ((value >>> shift) & 0xFF) ^ flip;
+                while (digit != b) {
+                    int displaced = arr[next[digit]];
+                    arr[next[digit]++] = value;
+                    value = displaced;
+                    digit = ((value >>> shift) & 0xFF) ^ flip;
+                }
+                arr[next[b]++] = value;
+            }
+        }
+
+        if (level == 0) return;
+
+        int start = from;
+        for (int b = 0; b < RADIX; b++) {
+            int size = count[b];
+            if (size > 1) {
+                americanFlag(arr, start, start + size, level - 1, counts, next, false);
+            }
+            start += size;
+        }
+    }
+
+    private static boolean isTrivial(int[] counts, int base, int n) {
+        for (int b = 0; b < RADIX; b++) {
+            int c = counts[base + b];
+            if (c != 0) return c == n;
+        }
+        return true;
+    }
+
+    // Per-byte histograms of arr[from, to), laid out as counts[level * RADIX + digit].
+    private int[] histogram(int[] arr, int from, int to) {
+        if (to - from < PARALLEL_THRESHOLD) {
+            return countDigits(arr, from, to);
+        }
+        return pool.invoke(new HistogramTask(arr, from, to));
+    }
+
+    private static int[] countDigits(int[] arr, int from, int to) {
+        int[] counts = new int[4 * RADIX];
+        for (int i = from; i < to; i++) {
+            int value = arr[i];
+            counts[value & 0xFF]++;
+            counts[RADIX + ((value >>> 8) & 0xFF)]++;
+            counts[2 * RADIX + ((value >>> 16) & 0xFF)]++;
+            counts[3 * RADIX + ((value >>> 24) ^ 0x80)]++;
+        }
+        return counts;
+    }
+
+    private static void insertionSort(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class HistogramTask extends RecursiveTask<int[]> {
+        private final int[] arr;
+        private final int from;
+        private final int to;
+
+        HistogramTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= HISTOGRAM_CHUNK) {
+                return countDigits(arr, from, to);
+            }
+
+            int mid = (from + to) >>> 1;
+            HistogramTask left = new HistogramTask(arr, from, mid);
+            left.fork();
+            int[] counts = new HistogramTask(arr, mid, to).compute();
+            int[] leftCounts = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += leftCounts[i];
+            }
+            return counts;
+        }
+    }
+}
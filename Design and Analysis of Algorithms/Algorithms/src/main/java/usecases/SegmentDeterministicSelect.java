@@ -0,0 +1,85 @@
+package usecases;
+
+import interfaces.SegmentSelect;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * {@link DeterministicSelect} over the ints of a {@link MemorySegment} with long
+ * indices. The segment is partially reordered in place and nothing is allocated.
+ */
+public final class SegmentDeterministicSelect implements SegmentSelect {
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+
+    @Override
+    public int select(MemorySegment segment, long k) {
+        long n = segment.byteSize() / Integer.BYTES;
+        if (k < 1 || k > n) {
+            throw new IllegalArgumentException("k is out of bounds");
+        }
+        return segment.getAtIndex(INT, selectIndex(segment, 0, n - 1, k - 1));
+    }
+
+    private static long selectIndex(MemorySegment segment, long start, long end, long kIndex) {
+        while (start < end) {
+            int pivot = segment.getAtIndex(INT, findPivot(segment, start, end));
+
+            long lt = start, i = start, gt = end;
+            while (i <= gt) {
+                int value = segment.getAtIndex(INT, i);
+                if (value < pivot) {
+                    swap(segment, lt++, i++);
+                } else if (value > pivot) {
+                    swap(segment, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (kIndex < lt) {
+                end = lt - 1;
+            } else if (kIndex > gt) {
+                start = gt + 1;
+            } else {
+                return kIndex;
+            }
+        }
+        return kIndex;
+    }
+
+    private static long findPivot(MemorySegment segment, long start, long end) {
+        if (end - start < 5) {
+            insertionSort(segment, start, end);
+            return start + (end - start) / 2;
+        }
+
+        long medians = start;
+        for (long i = start; i <= end; i += 5) {
+            long groupEnd = Math.min(i + 4, end);
+            insertionSort(segment, i, groupEnd);
+            swap(segment, i + (groupEnd - i) / 2, medians++);
+        }
+
+        long last = medians - 1;
+        return selectIndex(segment, start, last, start + (last - start) / 2);
+    }
+
+    private static void insertionSort(MemorySegment segment, long start, long end) {
+        for (long i = start + 1; i <= end; i++) {
+            int key = segment.getAtIndex(INT, i);
+            long j = i - 1;
+            while (j >= start && segment.getAtIndex(INT, j) > key) {
+                segment.setAtIndex(INT, j + 1, segment.getAtIndex(INT, j));
+                j--;
+            }
+            segment.setAtIndex(INT, j + 1, key);
+        }
+    }
+
+    private static void swap(MemorySegment segment, long i, long j) {
+        int tmp = segment.getAtIndex(INT, i);
+        segment.setAtIndex(INT, i, segment.getAtIndex(INT, j));
+        segment.setAtIndex(INT, j, tmp);
+    }
+}
@@ -0,0 +1,72 @@
+package usecases;
+
+import interfaces.SegmentSort;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Off-heap merge sort. The scratch buffer is allocated from a confined
+ * {@link Arena} per call and freed as soon as the sort returns; merging ping-pongs
+ * between the segment and the scratch buffer, as in {@link ParallelMergeSort}.
+ */
+public final class SegmentMergeSort implements SegmentSort {
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+    private static final int INSERTION_THRESHOLD = 32;
+
+    @Override
+    public void sort(MemorySegment segment, long low, long high) {
+        if (low >= high) return;
+
+        long n = high - low + 1;
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment scratch = arena.allocate(n * Integer.BYTES, Integer.BYTES);
+            MemorySegment.copy(segment, low * Integer.BYTES, scratch, 0, n * Integer.BYTES);
+            sortInto(scratch, 0, segment, low, n);
+        }
+    }
+
+    // Both ranges hold the same values on entry; on exit dst[dstOff, dstOff + n) is sorted.
+    private static void sortInto(MemorySegment src, long srcOff, MemorySegment dst, long dstOff, long n) {
+        if (n <= INSERTION_THRESHOLD) {
+            insertionSort(dst, dstOff, dstOff + n - 1);
+            return;
+        }
+
+        long half = n >>> 1;
+        sortInto(dst, dstOff, src, srcOff, half);
+        sortInto(dst, dstOff + half, src, srcOff + half, n - half);
+
+        long i = srcOff, mid = srcOff + half, j = mid, end = srcOff + n, k = dstOff;
+        if (src.getAtIndex(INT, mid - 1) <= src.getAtIndex(INT, mid)) {
+            MemorySegment.copy(src, srcOff * Integer.BYTES, dst, dstOff * Integer.BYTES, n * Integer.BYTES);
+            return;
+        }
+        while (i < mid && j < end) {
+            int left = src.getAtIndex(INT, i), right = src.getAtIndex(INT, j);
+            if (left <= right) {
+                dst.setAtIndex(INT, k++, left);
+                i++;
+            } else {
+                dst.setAtIndex(INT, k++, right);
+                j++;
+            }
+        }
+        MemorySegment.copy(src, i * Integer.BYTES, dst, k * Integer.BYTES, (mid - i) * Integer.BYTES);
+        k += mid - i;
+        MemorySegment.copy(src, j * Integer.BYTES, dst, k * Integer.BYTES, (end - j) * Integer.BYTES);
+    }
+
+    private static void insertionSort(MemorySegment segment, long low, long high) {
+        for (long i = low + 1; i <= high; i++) {
+            int key = segment.getAtIndex(INT, i);
+            long j = i - 1;
+            while (j >= low && segment.getAtIndex(INT, j) > key) {
+                segment.setAtIndex(INT, j + 1, segment.getAtIndex(INT, j));
+                j--;
+            }
+            segment.setAtIndex(INT, j + 1, key);
+        }
+    }
+}
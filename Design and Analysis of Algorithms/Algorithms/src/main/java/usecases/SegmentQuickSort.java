@@ -0,0 +1,105 @@
+package usecases;
+
+import interfaces.SegmentSort;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * In-place off-heap quicksort with long indices: median-of-three pivots, 3-way
+ * partitioning, recursion on the smaller side only and a heapsort fallback once
+ * the depth limit is reached, as in {@link IntroSort}. Allocates nothing.
+ */
+public final class SegmentQuickSort implements SegmentSort {
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+    private static final int INSERTION_THRESHOLD = 24;
+
+    @Override
+    public void sort(MemorySegment segment, long low, long high) {
+        if (low >= high) return;
+
+        int depthLimit = 2 * (63 - Long.numberOfLeadingZeros(high - low + 1));
+        quickSort(segment, low, high, depthLimit);
+    }
+
+    private static void quickSort(MemorySegment segment, long low, long high, int depthLimit) {
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(segment, low, high);
+                return;
+            }
+
+            int pivot = medianOfThree(segment.getAtIndex(INT, low),
+                    segment.getAtIndex(INT, low + ((high - low) >>> 1)), segment.getAtIndex(INT, high));
+
+            long lt = low, i = low, gt = high;
+            while (i <= gt) {
+                int value = segment.getAtIndex(INT, i);
+                if (value < pivot) {
+                    swap(segment, lt++, i++);
+                } else if (value > pivot) {
+                    swap(segment, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                quickSort(segment, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                quickSort(segment, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(segment, low, high);
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void heapSort(MemorySegment segment, long low, long high) {
+        long n = high - low + 1;
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(segment, low, i, n);
+        }
+        for (long end = n - 1; end > 0; end--) {
+            swap(segment, low, low + end);
+            siftDown(segment, low, 0, end);
+        }
+    }
+
+    private static void siftDown(MemorySegment segment, long base, long i, long n) {
+        int value = segment.getAtIndex(INT, base + i);
+        long child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && segment.getAtIndex(INT, base + child + 1) > segment.getAtIndex(INT, base + child)) {
+                child++;
+            }
+            int childValue = segment.getAtIndex(INT, base + child);
+            if (childValue <= value) break;
+            segment.setAtIndex(INT, base + i, childValue);
+            i = child;
+        }
+        segment.setAtIndex(INT, base + i, value);
+    }
+
+    private static void insertionSort(MemorySegment segment, long low, long high) {
+        for (long i = low + 1; i <= high; i++) {
+            int key = segment.getAtIndex(INT, i);
+            long j = i - 1;
+            while (j >= low && segment.getAtIndex(INT, j) > key) {
+                segment.setAtIndex(INT, j + 1, segment.getAtIndex(INT, j));
+                j--;
+            }
+            segment.setAtIndex(INT, j + 1, key);
+        }
+    }
+
+    private static void swap(MemorySegment segment, long i, long j) {
+        int temp = segment.getAtIndex(INT, i);
+        segment.setAtIndex(INT, i, segment.getAtIndex(INT, j));
+        segment.setAtIndex(INT, j, temp);
+    }
+}
@@ -0,0 +1,117 @@
+package usecases;
+
+import interfaces.Sort;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Quicksort with a Vector API partition kernel. Each step compares a full vector
+ * of lanes against the pivot and compress-stores the smaller lanes to the left
+ * and the larger lanes to the right of a second buffer; keys equal to the pivot
+ * are counted and written directly to their final place. Partitioning ping-pongs
+ * between the input and one scratch buffer the size of the sorted range, allocated
+ * per call.
+ *
+ * <p>Leaves are rank-sorted: each key's position is the number of keys that must
+ * precede it, counted a vector at a time. Species narrower than four ints fall back
+ * to {@link IntroSort}. Requires {@code --add-modules jdk.incubator.vector}.
+ */
+public final class VectorQuickSort implements Sort {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int MIN_LANES = 4;
+    private static final int LEAF_SIZE = Math.max(16, 2 * LANES);
+
+    private final IntroSort scalar = new IntroSort();
+
+    public static boolean isVectorized() {
+        return LANES >= MIN_LANES;
+    }
+
+    @Override
+    public void sort(int[] arr, int low, int high) {
+        if (low >= high) return;
+
+        if (!isVectorized()) {
+            scalar.sort(arr, low, high);
+            return;
+        }
+
+        int[] scratch = new int[high - low + 1];
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+        quickSort(arr, arr, scratch, low, high, low, depthLimit);
+    }
+
+    // src holds the keys of [low, high]; on return they are sorted in arr. Positions are
+    // those of arr; the scratch buffer starts at position base, so it is indexed with p - base.
+    private void quickSort(int[] arr, int[] src, int[] other, int low, int high, int base, int depthLimit) {
+        int n = high - low + 1;
+        int s = src == arr ? 0 : base;
+        int o = other == arr ? 0 : base;
+        if (n <= 1) {
+            if (n == 1 && src != arr) arr[low] = src[low - s];
+            return;
+        }
+        if (n <= LEAF_SIZE) {
+            rankSort(src, low - s, other, low - o, n);
+            if (other != arr) System.arraycopy(other, low - o, arr, low, n);
+            return;
+        }
+        if (depthLimit == 0) {
+            if (src != arr) System.arraycopy(src, low - s, arr, low, n);
+            scalar.sort(arr, low, high);
+            return;
+        }
+
+        int pivot = IntroSort.choosePivot(src, low - s, high - s);
+        int left = low, right = high + 1;
+
+        int i = low;
+        for (int bound = low + SPECIES.loopBound(n); i < bound; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, src, i - s);
+            VectorMask<Integer> less = v.compare(VectorOperators.LT, pivot);
+            VectorMask<Integer> greater = v.compare(VectorOperators.GT, pivot);
+
+            int lessCount = less.trueCount();
+            v.compress(less).intoArray(other, left - o, SPECIES.indexInRange(0, lessCount));
+            left += lessCount;
+
+            int greaterCount = greater.trueCount();
+            right -= greaterCount;
+            v.compress(greater).intoArray(other, right - o, SPECIES.indexInRange(0, greaterCount));
+        }
+        for (; i <= high; i++) {
+            int value = src[i - s];
+            if (value < pivot) {
+                other[left++ - o] = value;
+            } else if (value > pivot) {
+                other[--right - o] = value;
+            }
+        }
+
+        for (int k = left; k < right; k++) {
+            arr[k] = pivot;
+        }
+
+        quickSort(arr, other, src, low, left - 1, base, depthLimit - 1);
+        quickSort(arr, other, src, right, high, base, depthLimit - 1);
+    }
+
+    // Writes the n keys at src[from] in sorted order to dst[to]; ties keep their input order.
+    private static void rankSort(int[] src, int from, int[] dst, int to, int n) {
+        for (int i = 0; i < n; i++) {
+            int key = src[from + i];
+            int rank = 0;
+            for (int c = 0; c < n; c += LANES) {
+                VectorMask<Integer> valid = SPECIES.indexInRange(c, n);
+                IntVector v = IntVector.fromArray(SPECIES, src, from + c, valid);
+                VectorMask<Integer> before = v.compare(VectorOperators.LT, key)
+                        .or(v.compare(VectorOperators.EQ, key).and(SPECIES.indexInRange(c, i)));
+                rank += before.and(valid).trueCount();
+            }
+            dst[to + rank] = key;
+        }
+    }
+}
@@ -1,31 +1,103 @@
+import entities.PointPair;
+import interfaces.DoubleSort;
 import interfaces.Find;
+import interfaces.LongSort;
+import interfaces.MultiSelect;
+import interfaces.SegmentSelect;
+import interfaces.SegmentSort;
 import interfaces.Select;
 import interfaces.Sort;
+import usecases.AdaptiveSort;
+import usecases.ArgSort;
 import usecases.ClosestPair;
 import usecases.DeterministicSelect;
+import usecases.DoubleMergeSort;
+import usecases.DynamicClosestPair;
+import usecases.DoubleQuickSort;
+import usecases.ExternalSort;
+import usecases.GridClosestPair;
+import usecases.IndexedClosestPair;
+import usecases.IntroMultiSelect;
+import usecases.IntroSelect;
+import usecases.IntroSort;
+import usecases.KdTree;
+import usecases.KllSketch;
+import usecases.LongMergeSort;
+import usecases.LongQuickSort;
 import usecases.MergeSort;
+import usecases.ParallelClosestPair;
+import usecases.ParallelMergeSort;
+import usecases.ParallelQuickSort;
+import usecases.ParallelSelect;
+import usecases.PowerSort;
 import usecases.QuickSort;
+import usecases.RadixSort;
+import usecases.SegmentDeterministicSelect;
+import usecases.SegmentMergeSort;
+import usecases.SegmentQuickSort;
+import usecases.VectorQuickSort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 public class AlgorithmTests {
 
     private Sort mergeSorter;
     private Sort quickSorter;
+    private Sort parallelMergeSorter;
+    private Sort introSorter;
+    private Sort parallelQuickSorter;
+    private Sort lsdRadixSorter;
+    private Sort msdRadixSorter;
+    private Sort vectorQuickSorter;
+    private Sort powerSorter;
     private Select deterministicSelect;
+    private Select introSelect;
+    private Select parallelSelect;
+    private MultiSelect multiSelect;
     private Find closestPair;
+    private IndexedClosestPair indexedClosestPair;
+    private ParallelClosestPair parallelClosestPair;
+    private GridClosestPair gridClosestPair;
     private Random random;
 
     @BeforeEach
     void setUp() {
         mergeSorter = new MergeSort();
         quickSorter = new QuickSort();
+        parallelMergeSorter = new ParallelMergeSort(64);
+        introSorter = new IntroSort();
+        parallelQuickSorter = new ParallelQuickSort(16);
+        lsdRadixSorter = new RadixSort(RadixSort.Mode.LSD);
+        msdRadixSorter = new RadixSort(RadixSort.Mode.MSD);
+        vectorQuickSorter = new VectorQuickSort();
+        powerSorter = new PowerSort();
         deterministicSelect = new DeterministicSelect();
+        introSelect = new IntroSelect();
+        parallelSelect = new ParallelSelect(1024);
+        multiSelect = new IntroMultiSelect();
         closestPair = new ClosestPair();
+        indexedClosestPair = new IndexedClosestPair();
+        parallelClosestPair = new ParallelClosestPair(16);
+        gridClosestPair = new GridClosestPair(42);
         random = new Random(42);
     }
 
@@ -36,13 +108,23 @@ public class AlgorithmTests {
             int[] expected = arr.clone();
             int[] mergeArr = arr.clone();
             int[] quickArr = arr.clone();
+            int[] parallelMergeArr = arr.clone();
 
             Arrays.sort(expected);
             mergeSorter.sort(mergeArr, 0, mergeArr.length - 1);
             quickSorter.sort(quickArr, 0, quickArr.length - 1);
+            parallelMergeSorter.sort(parallelMergeArr, 0, parallelMergeArr.length - 1);
 
             assertArrayEquals(expected, mergeArr, "MergeSort failed on random array");
             assertArrayEquals(expected, quickArr, "QuickSort failed on random array");
+            assertArrayEquals(expected, parallelMergeArr, "ParallelMergeSort failed on random array");
+            assertSortedBy(introSorter, arr);
+            assertSortedBy(parallelQuickSorter, arr);
+            assertSortedBy(lsdRadixSorter, arr);
+            assertSortedBy(msdRadixSorter, arr);
+            assertSortedBy(vectorQuickSorter, arr);
+            assertSortedBy(powerSorter, arr);
+            assertSortedBy(new AdaptiveSort(), arr);
         }
 
         testAdversarialArrays();
@@ -67,13 +149,582 @@ public class AlgorithmTests {
         int[] expected = arr.clone();
         int[] mergeArr = arr.clone();
         int[] quickArr = arr.clone();
+        int[] parallelMergeArr = arr.clone();
 
         Arrays.sort(expected);
         mergeSorter.sort(mergeArr, 0, mergeArr.length - 1);
         quickSorter.sort(quickArr, 0, quickArr.length - 1);
+        parallelMergeSorter.sort(parallelMergeArr, 0, parallelMergeArr.length - 1);
 
         assertArrayEquals(expected, mergeArr);
         assertArrayEquals(expected, quickArr);
+        assertArrayEquals(expected, parallelMergeArr);
+        assertSortedBy(introSorter, arr);
+        assertSortedBy(parallelQuickSorter, arr);
+        assertSortedBy(lsdRadixSorter, arr);
+        assertSortedBy(msdRadixSorter, arr);
+        assertSortedBy(vectorQuickSorter, arr);
+        assertSortedBy(powerSorter, arr);
+        assertSortedBy(new AdaptiveSort(), arr);
+    }
+
+    void assertSortedBy(Sort sorter, int[] arr) {
+        int[] expected = arr.clone();
+        int[] actual = arr.clone();
+
+        Arrays.sort(expected);
+        sorter.sort(actual, 0, actual.length - 1);
+
+        assertArrayEquals(expected, actual, sorter.getClass().getSimpleName() + " failed");
+    }
+
+    PowerSort.Report assertSortedWithReport(PowerSort sorter, int[] arr) {
+        int[] expected = arr.clone();
+        int[] actual = arr.clone();
+
+        Arrays.sort(expected);
+        PowerSort.Report report = sorter.sortWithReport(actual, 0, actual.length - 1);
+
+        assertArrayEquals(expected, actual, "PowerSort failed");
+        return report;
+    }
+
+    @Test
+    void testParallelMergeSortLarge() {
+        int[] arr = generateRandomArray(200_000, -1_000_000, 1_000_000);
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        parallelMergeSorter.sort(arr, 0, arr.length - 1);
+        assertArrayEquals(expected, arr);
+
+        int[] partial = generateRandomArray(10_000, -100, 100);
+        int[] partialExpected = partial.clone();
+        Arrays.sort(partialExpected, 1000, 9000);
+
+        parallelMergeSorter.sort(partial, 1000, 8999);
+        assertArrayEquals(partialExpected, partial);
+    }
+
+    @Test
+    void testParallelQuickSortLarge() {
+        int[] arr = generateRandomArray(200_000, -1_000_000, 1_000_000);
+        assertSortedBy(parallelQuickSorter, arr);
+        assertSortedBy(new ParallelQuickSort(), arr);
+
+        int[] sorted = new int[200_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        assertSortedBy(parallelQuickSorter, sorted);
+        assertSortedBy(parallelQuickSorter, generateRandomArray(200_000, 0, 3));
+    }
+
+    @Test
+    void testPowerSortPartiallySorted() {
+        int n = 100_000;
+        int[] segments = new int[n];
+        for (int start = 0; start < n; start += 9_973) {
+            int[] segment = generateRandomArray(Math.min(9_973, n - start), -50_000, 50_000);
+            Arrays.sort(segment);
+            System.arraycopy(segment, 0, segments, start, segment.length);
+        }
+        assertSortedBy(powerSorter, segments);
+
+        int[] sawtooth = new int[n];
+        for (int i = 0; i < n; i++) {
+            sawtooth[i] = (i / 1000) % 2 == 0 ? i % 1000 : 1000 - i % 1000;
+        }
+        assertSortedBy(powerSorter, sawtooth);
+
+        int[] interleaved = new int[n];
+        for (int i = 0; i < n; i++) {
+            interleaved[i] = i < n / 2 ? 2 * i : 2 * (i - n / 2) + 1;
+        }
+        assertSortedBy(powerSorter, interleaved);
+
+        int[] nearlySorted = new int[n];
+        for (int i = 0; i < n; i++) {
+            nearlySorted[i] = i;
+        }
+        for (int i = 0; i < 50; i++) {
+            nearlySorted[random.nextInt(n)] = random.nextInt(n);
+        }
+        assertSortedBy(powerSorter, nearlySorted);
+        assertSortedBy(powerSorter, generateRandomArray(n, -1_000_000, 1_000_000));
+        assertSortedBy(powerSorter, generateRandomArray(n, 0, 3));
+
+        int[] partial = generateRandomArray(10_000, -100, 100);
+        int[] expected = partial.clone();
+        Arrays.sort(expected, 1000, 9000);
+        powerSorter.sort(partial, 1000, 8999);
+        assertArrayEquals(expected, partial);
+    }
+
+    @Test
+    void testPowerSortAdaptiveRunsAndMerges() {
+        PowerSort sorter = new PowerSort();
+        int n = 100_000;
+
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - i;
+        }
+        PowerSort.Report report = assertSortedWithReport(sorter, sorted);
+        assertEquals(1, report.getRunCount());
+        assertEquals(0, report.getMergeCount());
+        report = assertSortedWithReport(sorter, reversed);
+        assertEquals(1, report.getRunCount());
+        assertEquals(0, report.getMergeCount());
+
+        // Four overlapping sorted runs need exactly three merges.
+        int[] fourRuns = new int[n];
+        for (int start = 0; start < n; start += n / 4) {
+            int[] run = generateRandomArray(n / 4, -1_000_000, 1_000_000);
+            Arrays.sort(run);
+            System.arraycopy(run, 0, fourRuns, start, run.length);
+        }
+        report = assertSortedWithReport(sorter, fourRuns);
+        assertEquals(4, report.getRunCount());
+        assertEquals(3, report.getMergeCount());
+
+        // Descending blocks in ascending order: every block is reversed, then no merge moves anything.
+        int[] blocks = new int[n];
+        for (int i = 0; i < n; i++) {
+            blocks[i] = (i / 10_000) * 10_000 + (9_999 - i % 10_000);
+        }
+        report = assertSortedWithReport(sorter, blocks);
+        assertEquals(10, report.getRunCount());
+        assertEquals(0, report.getMergeCount());
+
+        // Random input has no long runs, so it falls back to minimum-length runs and merges them all.
+        report = assertSortedWithReport(sorter, generateRandomArray(n, -1_000_000, 1_000_000));
+        assertTrue(report.getRunCount() >= n / 64);
+        assertTrue(report.getMergeCount() >= report.getRunCount() - 10);
+    }
+
+    @Test
+    void testAdaptiveSortDispatch() {
+        List<AdaptiveSort.Decision> decisions = new ArrayList<>();
+        AdaptiveSort sorter = new AdaptiveSort(decisions::add);
+        int n = 100_000;
+
+        int[] nearlySorted = new int[n];
+        for (int i = 0; i < n; i++) {
+            nearlySorted[i] = i * 10;
+        }
+        nearlySorted[n / 2] = -5;
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            reversed[i] = -i * 10;
+        }
+        int[] duplicates = new int[n];
+        for (int i = 0; i < n; i++) {
+            duplicates[i] = random.nextInt(100) * 1_000_000;
+        }
+
+        assertSortedBy(sorter, generateRandomArray(20, -1000, 1000));
+        assertSortedBy(sorter, nearlySorted);
+        assertSortedBy(sorter, reversed);
+        assertSortedBy(sorter, generateRandomArray(n, -500, 500));
+        assertSortedBy(sorter, duplicates);
+        assertSortedBy(sorter, generateRandomArray(1000, -1_000_000, 1_000_000));
+        assertSortedBy(sorter, generateRandomArray(n, -1_000_000_000, 1_000_000_000));
+
+        AdaptiveSort.Strategy[] expected = {
+                AdaptiveSort.Strategy.INSERTION, AdaptiveSort.Strategy.MERGE, AdaptiveSort.Strategy.MERGE,
+                AdaptiveSort.Strategy.COUNTING, AdaptiveSort.Strategy.QUICK, AdaptiveSort.Strategy.QUICK,
+                AdaptiveSort.Strategy.RADIX
+        };
+        assertEquals(expected.length, decisions.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], decisions.get(i).getStrategy(), decisions.get(i).toString());
+            assertTrue(decisions.get(i).getElapsedMs() >= 0);
+        }
+        assertEquals(2, sorter.getCalls(AdaptiveSort.Strategy.MERGE));
+        assertEquals(1001, decisions.get(3).getSpan());
+        assertTrue(sorter.getTotalMs(AdaptiveSort.Strategy.RADIX) > 0);
+
+        int[] partial = generateRandomArray(10_000, -100, 100);
+        int[] partialExpected = partial.clone();
+        Arrays.sort(partialExpected, 1000, 9000);
+        sorter.sort(partial, 1000, 8999);
+        assertArrayEquals(partialExpected, partial);
+    }
+
+    @Test
+    void testAdaptiveSortSharedBetweenThreads() throws InterruptedException {
+        AdaptiveSort sorter = new AdaptiveSort();
+        int threads = 4, arraysPerThread = 50, n = 20_000;
+
+        // Nearly sorted input goes to the merge strategy, so every call shares the PowerSort delegate.
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    Random local = new Random(seed);
+                    for (int k = 0; k < arraysPerThread; k++) {
+                        int[] arr = new int[n];
+                        for (int i = 0; i < n; i++) {
+                            arr[i] = i * 16 + local.nextInt(8);
+                        }
+                        for (int i = 0; i < 20; i++) {
+                            int a = local.nextInt(n), b = local.nextInt(n);
+                            int temp = arr[a];
+                            arr[a] = arr[b];
+                            arr[b] = temp;
+                        }
+                        int[] expected = arr.clone();
+                        Arrays.sort(expected);
+                        sorter.sort(arr, 0, n - 1);
+                        assertArrayEquals(expected, arr);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue(failures.isEmpty(), "Worker failed: " + failures);
+        assertEquals(threads * arraysPerThread, sorter.getCalls(AdaptiveSort.Strategy.MERGE));
+    }
+
+    @Test
+    void testVectorQuickSortLargeAndSkewed() {
+        int n = 200_003;
+        int[] full = new int[n];
+        for (int i = 0; i < n; i++) {
+            full[i] = random.nextInt();
+        }
+        full[0] = Integer.MIN_VALUE;
+        full[1] = Integer.MAX_VALUE;
+        assertSortedBy(vectorQuickSorter, full);
+        assertSortedBy(vectorQuickSorter, generateRandomArray(n, 0, 3));
+
+        int[] sorted = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = n - i;
+        }
+        assertSortedBy(vectorQuickSorter, sorted);
+
+        for (int size = 1; size <= 70; size++) {
+            assertSortedBy(vectorQuickSorter, generateRandomArray(size, -5, 5));
+        }
+
+        int[] partial = full.clone();
+        int[] expected = full.clone();
+        Arrays.sort(expected, 37, 150_037);
+        vectorQuickSorter.sort(partial, 37, 150_036);
+        assertArrayEquals(expected, partial);
+
+        // The scratch buffer only covers the sorted range, which here sits at the very end.
+        Arrays.sort(expected, n - 1000, n);
+        vectorQuickSorter.sort(partial, n - 1000, n - 1);
+        assertArrayEquals(expected, partial);
+    }
+
+    @Test
+    void testSegmentSortsAndSelect() {
+        SegmentSort[] sorters = {new SegmentMergeSort(), new SegmentQuickSort()};
+        SegmentSelect select = new SegmentDeterministicSelect();
+        int n = 200_000;
+
+        int[] sorted = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = n - i;
+        }
+        int[] allSame = new int[n];
+        Arrays.fill(allSame, 7);
+
+        try (Arena arena = Arena.ofConfined()) {
+            for (int[] source : new int[][]{generateRandomArray(n, -1_000_000, 1_000_000), sorted, allSame,
+                    generateRandomArray(n, 0, 3), generateRandomArray(5, -5, 5)}) {
+                int[] expected = source.clone();
+                Arrays.sort(expected);
+                MemorySegment segment = arena.allocate((long) source.length * Integer.BYTES, Integer.BYTES);
+
+                for (SegmentSort sorter : sorters) {
+                    MemorySegment.copy(source, 0, segment, ValueLayout.JAVA_INT, 0, source.length);
+                    sorter.sort(segment, 0, source.length - 1);
+                    assertArrayEquals(expected, segment.toArray(ValueLayout.JAVA_INT),
+                            sorter.getClass().getSimpleName() + " failed");
+                }
+
+                for (long k : new long[]{1, source.length / 2 + 1, source.length}) {
+                    MemorySegment.copy(source, 0, segment, ValueLayout.JAVA_INT, 0, source.length);
+                    assertEquals(expected[(int) k - 1], select.select(segment, k));
+                }
+            }
+
+            int[] source = generateRandomArray(10_000, -100, 100);
+            int[] expected = source.clone();
+            Arrays.sort(expected, 1000, 9000);
+            for (SegmentSort sorter : sorters) {
+                MemorySegment segment = MemorySegment.ofArray(source.clone());
+                sorter.sort(segment, 1000, 8999);
+                assertArrayEquals(expected, segment.toArray(ValueLayout.JAVA_INT));
+            }
+
+            MemorySegment segment = arena.allocate(4 * Integer.BYTES, Integer.BYTES);
+            assertThrows(IllegalArgumentException.class, () -> select.select(segment, 0));
+            assertThrows(IllegalArgumentException.class, () -> select.select(segment, 5));
+        }
+    }
+
+    @Test
+    void testRadixSortSignedKeys() {
+        int n = 300_000;
+        int[] full = new int[n];
+        for (int i = 0; i < n; i++) {
+            full[i] = random.nextInt();
+        }
+        full[0] = Integer.MIN_VALUE;
+        full[1] = Integer.MAX_VALUE;
+        full[2] = -1;
+        full[3] = 0;
+        int[] narrow = generateRandomArray(n, -300, 300);
+        int[] sameHighBytes = generateRandomArray(n, 1 << 20, (1 << 20) + 255);
+
+        for (Sort sorter : new Sort[]{lsdRadixSorter, msdRadixSorter}) {
+            assertSortedBy(sorter, full);
+            assertSortedBy(sorter, narrow);
+            assertSortedBy(sorter, sameHighBytes);
+
+            int[] partial = full.clone();
+            int[] expected = full.clone();
+            Arrays.sort(expected, 100, 200_100);
+            sorter.sort(partial, 100, 200_099);
+            assertArrayEquals(expected, partial);
+        }
+    }
+
+    @Test
+    void testLongSorts() {
+        for (LongSort sorter : new LongSort[]{new LongMergeSort(), new LongQuickSort()}) {
+            for (int trial = 0; trial < 20; trial++) {
+                long[] arr = new long[1 + random.nextInt(5000)];
+                for (int i = 0; i < arr.length; i++) {
+                    arr[i] = trial % 2 == 0 ? random.nextLong() : random.nextInt(10);
+                }
+                arr[0] = Long.MIN_VALUE;
+                long[] expected = arr.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(arr, 0, arr.length - 1);
+                assertArrayEquals(expected, arr, sorter.getClass().getSimpleName() + " failed");
+            }
+        }
+    }
+
+    @Test
+    void testDoubleSortsSpecialValues() {
+        double[] specials = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+
+        for (DoubleSort sorter : new DoubleSort[]{new DoubleMergeSort(), new DoubleQuickSort()}) {
+            for (int trial = 0; trial < 20; trial++) {
+                double[] arr = new double[1 + random.nextInt(3000)];
+                for (int i = 0; i < arr.length; i++) {
+                    arr[i] = random.nextInt(4) == 0 ? specials[random.nextInt(specials.length)] : random.nextGaussian();
+                }
+                double[] expected = arr.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(arr, 0, arr.length - 1);
+                assertArrayEquals(expected, arr, sorter.getClass().getSimpleName() + " failed");
+            }
+
+            double[] zeros = {0.0, -0.0, Double.NaN, 0.0, -0.0, -1.0};
+            sorter.sort(zeros, 0, zeros.length - 1);
+            assertArrayEquals(new double[]{-1.0, -0.0, -0.0, 0.0, 0.0, Double.NaN}, zeros);
+        }
+    }
+
+    @Test
+    void testPrimitiveQuickSortsMedianOfThreeKiller() {
+        long[] killer = medianOfThreeKiller(30_000);
+        long[] expected = killer.clone();
+        Arrays.sort(expected);
+
+        long[] longs = killer.clone();
+        new LongQuickSort().sort(longs, 0, longs.length - 1);
+        assertArrayEquals(expected, longs);
+
+        double[] doubles = new double[killer.length];
+        double[] expectedDoubles = new double[killer.length];
+        for (int i = 0; i < killer.length; i++) {
+            doubles[i] = killer[i];
+            expectedDoubles[i] = expected[i];
+        }
+        new DoubleQuickSort().sort(doubles, 0, doubles.length - 1);
+        assertArrayEquals(expectedDoubles, doubles);
+    }
+
+    @Test
+    void testArgSort() {
+        ArgSort argSort = new ArgSort();
+
+        int[] intKeys = generateRandomArray(2000, 0, 50);
+        int[] order = argSort.argsort(intKeys);
+        for (int i = 1; i < order.length; i++) {
+            assertTrue(intKeys[order[i - 1]] < intKeys[order[i]]
+                    || (intKeys[order[i - 1]] == intKeys[order[i]] && order[i - 1] < order[i]), "argsort must be stable");
+        }
+
+        double[] doubleKeys = {3.5, Double.NaN, -0.0, 0.0, -2.0, 3.5};
+        assertArrayEquals(new int[]{4, 2, 3, 0, 5, 1}, argSort.argsort(doubleKeys));
+        assertArrayEquals(new int[]{1, 2, 0}, argSort.argsort(new long[]{5L, -7L, 0L}));
+
+        long[] timestamps = new long[3000];
+        int[] rowIds = new int[timestamps.length];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = random.nextInt(100);
+            rowIds[i] = i;
+        }
+        long[] originalTimestamps = timestamps.clone();
+        argSort.sort(timestamps, rowIds, 0, timestamps.length - 1);
+        for (int i = 0; i < timestamps.length; i++) {
+            assertEquals(originalTimestamps[rowIds[i]], timestamps[i]);
+            if (i > 0) {
+                assertTrue(timestamps[i - 1] < timestamps[i]
+                        || (timestamps[i - 1] == timestamps[i] && rowIds[i - 1] < rowIds[i]), "payload sort must be stable");
+            }
+        }
+
+        double[] scores = doubleKeys.clone();
+        int[] ids = {0, 1, 2, 3, 4, 5};
+        argSort.sort(scores, ids, 0, scores.length - 1);
+        assertArrayEquals(new int[]{4, 2, 3, 0, 5, 1}, ids);
+        assertArrayEquals(new double[]{-2.0, -0.0, 0.0, 3.5, 3.5, Double.NaN}, scores);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> argSort.sort(new long[3], new int[2], 0, 2));
+    }
+
+    @Test
+    void testIntroSortAdversarialLarge() {
+        int n = 200_000;
+        int[] sorted = new int[n];
+        int[] reverse = new int[n];
+        int[] organPipe = new int[n];
+        int[] fewDistinct = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reverse[i] = n - i;
+            organPipe[i] = i < n / 2 ? i : n - i;
+            fewDistinct[i] = random.nextInt(4);
+        }
+        int[] allSame = new int[n];
+        Arrays.fill(allSame, 7);
+
+        assertSortedBy(introSorter, sorted);
+        assertSortedBy(introSorter, reverse);
+        assertSortedBy(introSorter, organPipe);
+        assertSortedBy(introSorter, fewDistinct);
+        assertSortedBy(introSorter, allSame);
+        assertSortedBy(introSorter, generateRandomArray(n, -1_000_000_000, 1_000_000_000));
+    }
+
+    @Test
+    void testExternalSort() throws IOException {
+        Path dir = Files.createTempDirectory("external-sort");
+        try {
+            int[] data = generateRandomArray(100_003, -1_000_000, 1_000_000);
+            Path input = dir.resolve("input.bin");
+            Path output = dir.resolve("output.bin");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(input))) {
+                for (int value : data) {
+                    out.writeInt(value);
+                }
+            }
+
+            ExternalSort externalSort = new ExternalSort(introSorter, 10_000, 4, dir, ByteOrder.BIG_ENDIAN);
+            ExternalSort.Report report = externalSort.sort(input, output);
+
+            int[] actual = new int[data.length];
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(output))) {
+                for (int i = 0; i < actual.length; i++) {
+                    actual[i] = in.readInt();
+                }
+                assertEquals(-1, in.read());
+            }
+            Arrays.sort(data);
+            assertArrayEquals(data, actual);
+
+            assertEquals(11, report.getRunCount());
+            assertEquals(2, report.getMergePasses());
+            assertEquals(3L * data.length * Integer.BYTES, report.getBytesRead());
+            assertEquals(3L * data.length * Integer.BYTES, report.getBytesWritten());
+            try (var remaining = Files.list(dir)) {
+                assertEquals(2, remaining.count(), "Temporary runs should be deleted");
+            }
+
+            Path empty = dir.resolve("empty.bin");
+            Files.createFile(empty);
+            assertEquals(0, externalSort.sort(empty, output).getRunCount());
+            assertEquals(0, Files.size(output));
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    void testExternalSortCleansUpFailedMerges() throws IOException {
+        Path dir = Files.createTempDirectory("external-sort-failure");
+        try {
+            Path input = dir.resolve("input.bin");
+            Path output = dir.resolve("output.bin");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(input))) {
+                for (int value : generateRandomArray(10 * 1000, -1000, 1000)) {
+                    out.writeInt(value);
+                }
+            }
+            byte[] previousOutput = {1, 2, 3, 4};
+            Files.write(output, previousOutput);
+
+            // A fan-in of 4 fails in an intermediate pass over the ten runs, a fan-in of 16 in the final merge.
+            for (int fanIn : new int[]{4, 16}) {
+                // Before the last run is sorted one of the nine written runs disappears, so the merge of
+                // its group fails after the merge target has already been created.
+                int[] calls = {0};
+                Sort sabotagingSorter = (arr, low, high) -> {
+                    if (++calls[0] == 10) {
+                        File[] runs = dir.toFile().listFiles((d, name) -> name.startsWith("run-"));
+                        assertEquals(9, runs.length);
+                        assertTrue(runs[0].delete());
+                    }
+                    introSorter.sort(arr, low, high);
+                };
+
+                ExternalSort externalSort = new ExternalSort(sabotagingSorter, 1000, fanIn, dir, ByteOrder.BIG_ENDIAN);
+                assertThrows(IOException.class, () -> externalSort.sort(input, output));
+
+                try (var remaining = Files.list(dir)) {
+                    assertEquals(2, remaining.count(), "Temporary files should be deleted");
+                }
+                assertArrayEquals(previousOutput, Files.readAllBytes(output), "Output must not be replaced");
+            }
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
     }
 
     @Test
@@ -103,6 +754,10 @@ public class AlgorithmTests {
 
             assertEquals(expected, result,
                     String.format("Select failed: k=%d, array=%s", k, Arrays.toString(arr)));
+            assertEquals(expected, introSelect.select(arr.clone(), k),
+                    String.format("IntroSelect failed: k=%d, array=%s", k, Arrays.toString(arr)));
+            assertEquals(expected, parallelSelect.select(arr.clone(), k),
+                    String.format("ParallelSelect failed: k=%d, array=%s", k, Arrays.toString(arr)));
         }
     }
 
@@ -122,6 +777,198 @@ public class AlgorithmTests {
                 () -> deterministicSelect.select(new int[]{1, 2, 3}, 0));
         assertThrows(IllegalArgumentException.class,
                 () -> deterministicSelect.select(new int[]{1, 2, 3}, 4));
+
+        assertEquals(42, introSelect.select(new int[]{42}, 1));
+        assertEquals(7, introSelect.select(new int[]{7, 7, 7, 7, 7}, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> introSelect.select(new int[]{1, 2, 3}, 0));
+    }
+
+    @Test
+    void testSelectLargeAdversarial() {
+        int n = 100_000;
+        int[] sorted = new int[n];
+        int[] organPipe = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            organPipe[i] = i < n / 2 ? i : n - i;
+        }
+        int[] allSame = new int[n];
+        Arrays.fill(allSame, 3);
+
+        for (int[] arr : new int[][]{sorted, organPipe, allSame, generateRandomArray(n, -50, 50)}) {
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            for (int k : new int[]{1, n / 10, n / 2, n - 1, n}) {
+                assertEquals(expected[k - 1], deterministicSelect.select(arr.clone(), k));
+                assertEquals(expected[k - 1], introSelect.select(arr.clone(), k));
+                assertEquals(expected[k - 1], parallelSelect.select(arr, k));
+            }
+        }
+    }
+
+    @Test
+    void testParallelSelectLarge() {
+        int n = 1_000_003;
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = random.nextInt();
+        }
+        int[] original = arr.clone();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        Select defaultSelect = new ParallelSelect();
+        for (int k : new int[]{1, 2, n / 100, n / 2, n - n / 1000, n}) {
+            assertEquals(expected[k - 1], defaultSelect.select(arr, k));
+            assertEquals(expected[k - 1], parallelSelect.select(arr, k));
+        }
+        assertArrayEquals(original, arr);
+
+        int[] fewDistinct = generateRandomArray(n, 0, 2);
+        int[] fewExpected = fewDistinct.clone();
+        Arrays.sort(fewExpected);
+        for (int k : new int[]{1, n / 3, n / 2, n}) {
+            assertEquals(fewExpected[k - 1], defaultSelect.select(fewDistinct, k));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> parallelSelect.select(arr, 0));
+        assertThrows(IllegalArgumentException.class, () -> parallelSelect.select(arr, n + 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSelect(16));
+    }
+
+    @Test
+    void testParallelSelectLowCardinality() {
+        int n = 500_000;
+        int[] binary = generateRandomArray(n, 0, 1);
+        int[] skewed = new int[n];
+        for (int i = 0; i < n; i++) {
+            skewed[i] = random.nextInt(10) == 0 ? random.nextInt(1000) : 500;
+        }
+        int[] twoValues = new int[n];
+        for (int i = 0; i < n; i++) {
+            twoValues[i] = i % 3 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        }
+
+        for (int[] arr : new int[][]{binary, skewed, twoValues}) {
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            int firstOne = Arrays.binarySearch(expected, expected[n - 1]);
+            for (int k : new int[]{1, n / 3, n / 3 + 1, n / 2, firstOne, firstOne + 1, n - 1, n}) {
+                if (k < 1) continue;
+                assertEquals(expected[k - 1], parallelSelect.select(arr, k), "k=" + k);
+            }
+        }
+    }
+
+    @Test
+    void testMultiSelectPercentiles() {
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 1 + random.nextInt(5000);
+            int[] arr = generateRandomArray(n, -100, 100);
+            int[] sortedArr = arr.clone();
+            Arrays.sort(sortedArr);
+
+            int[] ks = {1, (int) Math.ceil(n * 0.5), (int) Math.ceil(n * 0.9),
+                    (int) Math.ceil(n * 0.99), (int) Math.ceil(n * 0.999), n};
+            int[] expected = new int[ks.length];
+            for (int i = 0; i < ks.length; i++) {
+                expected[i] = sortedArr[ks[i] - 1];
+            }
+
+            assertArrayEquals(expected, multiSelect.select(arr.clone(), ks));
+
+            int[] partitioned = arr.clone();
+            multiSelect.nthElement(partitioned, ks);
+            for (int k : ks) {
+                assertEquals(sortedArr[k - 1], partitioned[k - 1]);
+                for (int i = 0; i < k - 1; i++) {
+                    assertTrue(partitioned[i] <= partitioned[k - 1], "Element before rank " + k + " is larger");
+                }
+                for (int i = k; i < n; i++) {
+                    assertTrue(partitioned[i] >= partitioned[k - 1], "Element after rank " + k + " is smaller");
+                }
+            }
+        }
+
+        int[] sorted = new int[100_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        assertArrayEquals(new int[]{49_999, 89_999, 98_999}, multiSelect.select(sorted, new int[]{50_000, 90_000, 99_000}));
+    }
+
+    @Test
+    void testMultiSelectEdgeCases() {
+        assertArrayEquals(new int[0], multiSelect.select(new int[]{3, 1, 2}, new int[0]));
+        assertArrayEquals(new int[]{2, 2}, multiSelect.select(new int[]{3, 1, 2}, new int[]{2, 2}));
+        assertEquals(3, multiSelect.select(new int[]{3, 1, 2}, 3));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> multiSelect.select(new int[]{1, 2, 3}, new int[]{3, 1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> multiSelect.nthElement(new int[]{1, 2, 3}, new int[]{0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> multiSelect.select(new int[]{1, 2, 3}, new int[]{4}));
+    }
+
+    @Test
+    void testKllSketchAccuracy() {
+        int n = 200_000;
+        int[] data = generateRandomArray(n, -1_000_000, 1_000_000);
+        KllSketch sketch = new KllSketch(200, 7);
+        sketch.update(data);
+
+        assertEquals(n, sketch.count());
+        assertTrue(sketch.retainedItems() < n / 50, "Sketch should retain far fewer items than the stream");
+        assertSketchMatchesSelect(sketch, data, 0.02);
+    }
+
+    @Test
+    void testKllSketchMerge() {
+        int n = 200_000;
+        int[] data = generateRandomArray(n, 0, 1000);
+        KllSketch merged = new KllSketch(200, 11);
+        for (int shard = 0; shard < 4; shard++) {
+            KllSketch part = new KllSketch(200, shard);
+            part.update(Arrays.copyOfRange(data, shard * n / 4, (shard + 1) * n / 4));
+            merged.merge(part);
+        }
+
+        assertEquals(n, merged.count());
+        assertSketchMatchesSelect(merged, data, 0.02);
+    }
+
+    @Test
+    void testKllSketchEdgeCases() {
+        KllSketch sketch = new KllSketch();
+        assertThrows(IllegalStateException.class, () -> sketch.quantile(0.5));
+
+        sketch.update(5);
+        assertEquals(5, sketch.select(1));
+        assertEquals(1, sketch.rank(5));
+        assertEquals(0, sketch.rank(4));
+        assertThrows(IllegalArgumentException.class, () -> sketch.select(2));
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(sketch));
+    }
+
+    private void assertSketchMatchesSelect(KllSketch sketch, int[] data, double epsilon) {
+        int n = data.length;
+        for (double q : new double[]{0.01, 0.1, 0.5, 0.9, 0.99}) {
+            int k = (int) Math.ceil(q * n);
+            int exact = deterministicSelect.select(data.clone(), k);
+            int estimate = sketch.select(k);
+
+            int below = 0, atMost = 0;
+            for (int value : data) {
+                if (value < estimate) below++;
+                if (value <= estimate) atMost++;
+            }
+            double error = k < below ? below - k : Math.max(0, k - atMost);
+            assertTrue(error / n <= epsilon,
+                    String.format("q=%.2f: exact=%d estimate=%d rank error=%.4f", q, exact, estimate, error / n));
+            assertEquals(atMost, sketch.rank(estimate), epsilon * n);
+        }
     }
 
     @Test
@@ -137,6 +984,21 @@ public class AlgorithmTests {
         }
     }
 
+    @Test
+    void testClosestPairEnginesSmall() {
+        for (int trial = 0; trial < 10; trial++) {
+            double[][] points = generateRandomPoints(20, -100, 100);
+            double bruteForceResult = bruteForceClosestPair(points);
+
+            assertEquals(bruteForceResult, indexedClosestPair.find(points), 1e-9,
+                    "Indexed closest pair results don't match");
+            assertEquals(bruteForceResult, parallelClosestPair.find(points), 1e-9,
+                    "Parallel closest pair results don't match");
+            assertEquals(bruteForceResult, gridClosestPair.find(points), 1e-9,
+                    "Grid closest pair results don't match");
+        }
+    }
+
     @Test
     void testClosestPairLarge() {
         // Test on larger arrays using only the fast version
@@ -162,6 +1024,211 @@ public class AlgorithmTests {
         assertEquals(1.0, closestPair.find(collinear), 1e-9);
     }
 
+    @Test
+    void testDynamicClosestPair() {
+        DynamicClosestPair tracker = new DynamicClosestPair();
+        assertEquals(Double.MAX_VALUE, tracker.distance());
+        assertThrows(IllegalStateException.class, tracker::closestPair);
+
+        Map<Integer, double[]> points = new HashMap<>();
+        List<Integer> handles = new ArrayList<>();
+        for (int event = 0; event < 3000; event++) {
+            if (handles.size() > 2 && random.nextInt(3) == 0) {
+                int handle = handles.remove(random.nextInt(handles.size()));
+                points.remove(handle);
+                tracker.delete(handle);
+                assertFalse(tracker.contains(handle));
+            } else {
+                double scale = event < 1500 ? 1000 : 10;
+                double x = random.nextDouble() * scale, y = random.nextDouble() * scale;
+                int handle = tracker.insert(x, y);
+                assertNull(points.put(handle, new double[]{x, y}));
+                handles.add(handle);
+            }
+            assertEquals(handles.size(), tracker.size());
+
+            if (event % 7 == 0 && handles.size() >= 2) {
+                double expected = Double.MAX_VALUE;
+                for (int i = 0; i < handles.size(); i++) {
+                    for (int j = i + 1; j < handles.size(); j++) {
+                        double[] p = points.get(handles.get(i)), q = points.get(handles.get(j));
+                        expected = Math.min(expected, Math.hypot(p[0] - q[0], p[1] - q[1]));
+                    }
+                }
+                PointPair pair = tracker.closestPair();
+                assertEquals(expected, pair.distance, 1e-9, "event " + event);
+                assertEquals(expected, tracker.distance(), 1e-9);
+                double[] p = points.get(pair.first), q = points.get(pair.second);
+                assertEquals(expected, Math.hypot(p[0] - q[0], p[1] - q[1]), 1e-9);
+            }
+        }
+
+        int a = tracker.insert(5, 5);
+        int b = tracker.insert(5, 5);
+        assertEquals(0.0, tracker.distance());
+        tracker.delete(a);
+        assertThrows(IllegalArgumentException.class, () -> tracker.delete(a));
+        assertThrows(IllegalArgumentException.class, () -> tracker.insert(Double.NaN, 0));
+        assertTrue(tracker.contains(b));
+    }
+
+    @Test
+    void testClosestPairEnginesAgree() {
+        int n = 20_000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+
+        for (int trial = 0; trial < 3; trial++) {
+            for (int i = 0; i < n; i++) {
+                double t = random.nextDouble() * 1000;
+                xs[i] = trial == 2 ? t : random.nextDouble() * 1000;
+                ys[i] = trial == 2 ? 2 * t : trial == 1 ? random.nextInt(3) : random.nextDouble() * 1000;
+            }
+
+            double expected = indexedClosestPair.find(xs, ys).distance;
+            assertEquals(expected, parallelClosestPair.find(xs, ys).distance, 1e-12);
+            assertEquals(expected, new ParallelClosestPair().find(xs, ys).distance, 1e-12);
+            assertEquals(expected, gridClosestPair.find(xs, ys).distance, 1e-12);
+        }
+
+        xs[17] = xs[4242];
+        ys[17] = ys[4242];
+        PointPair duplicate = gridClosestPair.find(xs, ys);
+        assertEquals(0.0, duplicate.distance);
+        assertEquals(0.0, parallelClosestPair.find(xs, ys).distance);
+    }
+
+    @Test
+    void testKdTreeQueries() {
+        int n = 3000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble() * 100;
+            ys[i] = random.nextInt(100);
+        }
+        KdTree tree = KdTree.of(xs, ys);
+        assertEquals(n, tree.size());
+
+        for (int trial = 0; trial < 50; trial++) {
+            double[] query = {random.nextDouble() * 120 - 10, random.nextDouble() * 120 - 10};
+            double[] distances = new double[n];
+            for (int i = 0; i < n; i++) {
+                distances[i] = Math.hypot(xs[i] - query[0], ys[i] - query[1]);
+            }
+            double[] sortedDistances = distances.clone();
+            Arrays.sort(sortedDistances);
+
+            assertEquals(sortedDistances[0], distances[tree.nearest(query)], 1e-12);
+
+            int[] nearest = tree.kNearest(query, 10);
+            assertEquals(10, nearest.length);
+            for (int i = 0; i < nearest.length; i++) {
+                assertEquals(sortedDistances[i], distances[nearest[i]], 1e-12);
+            }
+
+            double r = 7.5;
+            int expectedWithin = 0;
+            for (double d : distances) {
+                if (d <= r) expectedWithin++;
+            }
+            int[] within = tree.radius(query, r);
+            assertEquals(expectedWithin, within.length);
+            for (int i : within) {
+                assertTrue(distances[i] <= r);
+            }
+        }
+
+        int[] all = tree.allNearestNeighbours();
+        for (int i = 0; i < n; i += 97) {
+            double best = Double.MAX_VALUE;
+            for (int j = 0; j < n; j++) {
+                if (j != i) best = Math.min(best, Math.hypot(xs[i] - xs[j], ys[i] - ys[j]));
+            }
+            assertTrue(all[i] != i);
+            assertEquals(best, Math.hypot(xs[i] - xs[all[i]], ys[i] - ys[all[i]]), 1e-12);
+        }
+    }
+
+    @Test
+    void testKdTreeEdgeCases() {
+        KdTree empty = new KdTree(new double[0], 3);
+        assertEquals(-1, empty.nearest(new double[]{0, 0, 0}));
+        assertEquals(0, empty.kNearest(new double[]{0, 0, 0}, 5).length);
+
+        KdTree single = new KdTree(new double[]{1, 2, 3}, 3);
+        assertEquals(0, single.nearest(new double[]{0, 0, 0}));
+        assertArrayEquals(new int[]{-1}, single.allNearestNeighbours());
+        assertArrayEquals(new int[]{0}, single.kNearest(new double[]{0, 0, 0}, 5));
+
+        assertThrows(IllegalArgumentException.class, () -> single.nearest(new double[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new KdTree(new double[5], 2));
+    }
+
+    @Test
+    void testIndexedClosestPairIndices() {
+        assertEquals(0.0, indexedClosestPair.find(new double[][]{{1, 1}, {2, 2}, {1, 1}}), 1e-9);
+        assertEquals(1.0, indexedClosestPair.find(new double[][]{{0, 0}, {1, 0}, {2, 0}, {3, 0}}), 1e-9);
+        assertThrows(IllegalArgumentException.class,
+                () -> indexedClosestPair.find(new double[]{0}, new double[]{0}));
+
+        for (int trial = 0; trial < 10; trial++) {
+            int n = 2 + random.nextInt(3000);
+            double[] xs = new double[n];
+            double[] ys = new double[n];
+            double[][] points = new double[n][2];
+            for (int i = 0; i < n; i++) {
+                xs[i] = points[i][0] = random.nextDouble() * 1000;
+                ys[i] = points[i][1] = random.nextInt(50);
+            }
+
+            PointPair pair = indexedClosestPair.find(xs, ys);
+            double dx = xs[pair.first] - xs[pair.second];
+            double dy = ys[pair.first] - ys[pair.second];
+
+            assertTrue(pair.first < pair.second);
+            assertEquals(Math.sqrt(dx * dx + dy * dy), pair.distance, 1e-12);
+            assertEquals(bruteForceClosestPair(points), pair.distance, 1e-9);
+        }
+    }
+
+    // Replays the median-of-three 3-way partition and hands out values so that each pivot is the
+    // second smallest of its range; without a depth limit every pass then peels off two elements.
+    private static long[] medianOfThreeKiller(int n) {
+        int[] ids = new int[n];
+        long[] values = new long[n];
+        Arrays.fill(values, -1);
+        for (int i = 0; i < n; i++) ids[i] = i;
+
+        long next = 0;
+        int low = 0, high = n - 1;
+        while (high - low + 1 > 24) {
+            values[ids[low]] = next++;
+            long pivot = values[ids[low + (high - low) / 2]] = next++;
+
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                long value = values[ids[i]];
+                if (value != -1 && value < pivot) {
+                    int temp = ids[lt];
+                    ids[lt++] = ids[i];
+                    ids[i++] = temp;
+                } else if (value == -1 || value > pivot) {
+                    int temp = ids[i];
+                    ids[i] = ids[gt];
+                    ids[gt--] = temp;
+                } else {
+                    i++;
+                }
+            }
+            low = gt + 1;
+        }
+        for (int i = 0; i < n; i++) {
+            if (values[i] == -1) values[i] = next++;
+        }
+        return values;
+    }
+
     private int[] generateRandomArray(int size, int min, int max) {
         int[] arr = new int[size];
         for (int i = 0; i < size; i++) {
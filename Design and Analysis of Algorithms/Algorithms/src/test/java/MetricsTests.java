@@ -0,0 +1,116 @@
+import interfaces.Find;
+import interfaces.Select;
+import interfaces.Sort;
+import metrics.InstrumentedFind;
+import metrics.InstrumentedSelect;
+import metrics.InstrumentedSort;
+import metrics.MetricsRecorder;
+import metrics.OperationMetrics;
+import metrics.Probe;
+import usecases.ClosestPair;
+import usecases.DeterministicSelect;
+import usecases.MergeSort;
+import usecases.PowerSort;
+import usecases.QuickSort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// Run by the separate "metrics" Surefire execution, the only one with -Dalgorithms.metrics=true.
+public class MetricsTests {
+
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        assertTrue(Probe.ENABLED, "MetricsTests needs -Dalgorithms.metrics=true");
+        random = new Random(42);
+    }
+
+    @Test
+    void testInstrumentedDecorators() {
+        MetricsRecorder recorder = new MetricsRecorder();
+        ClosestPair closestPair = new ClosestPair();
+        Sort sorter = new InstrumentedSort(new MergeSort(), recorder);
+        Select select = new InstrumentedSelect(new DeterministicSelect(), recorder);
+        Find find = new InstrumentedFind(closestPair, recorder);
+
+        int[] arr = generateRandomArray(5_000, -10_000, 10_000);
+        assertSortedBy(sorter, arr);
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted[99], select.select(arr.clone(), 100));
+        double[][] points = generateRandomPoints(500, 0, 1000);
+        assertEquals(closestPair.find(points.clone()), find.find(points.clone()), 1e-9);
+        assertSortedBy(new InstrumentedSort(new QuickSort(), recorder), arr);
+
+        List<OperationMetrics> metrics = recorder.getMetrics();
+        assertEquals(4, metrics.size());
+        assertEquals("MergeSort", metrics.get(0).getAlgorithm());
+        assertEquals("select", metrics.get(1).getOperation());
+        assertEquals(500, metrics.get(2).getInputSize());
+        for (OperationMetrics metric : metrics) {
+            assertTrue(metric.getComparisons() > 0, metric.toString());
+            assertTrue(metric.getMaxDepth() > 0, metric.toString());
+            assertTrue(metric.getElapsedMs() >= 0);
+        }
+        assertTrue(metrics.get(0).getMoves() > 0);
+        assertTrue(metrics.get(3).getSwaps() > 0);
+        assertTrue(metrics.get(0).getMaxDepth() >= 13 && metrics.get(0).getMaxDepth() <= 14);
+        assertTrue(metrics.get(0).getAllocatedBytes() != 0);
+
+        String[] csv = recorder.toCsv().split("\n");
+        assertEquals(5, csv.length);
+        assertEquals(OperationMetrics.CSV_HEADER, csv[0]);
+        assertTrue(csv[1].startsWith("MergeSort,sort,5000,"));
+        String json = recorder.toJson();
+        assertTrue(json.startsWith("[") && json.trim().endsWith("]"));
+        assertTrue(json.contains("\"algorithm\":\"ClosestPair\""));
+
+        recorder.clear();
+        assertEquals("[]\n", recorder.toJson());
+    }
+
+    @Test
+    void testUnprobedSorterReportsTimeOnly() {
+        MetricsRecorder recorder = new MetricsRecorder();
+        assertSortedBy(new InstrumentedSort(new PowerSort(), recorder), generateRandomArray(5_000, -10_000, 10_000));
+
+        OperationMetrics metric = recorder.getMetrics().get(0);
+        assertEquals("PowerSort", metric.getAlgorithm());
+        assertEquals(0, metric.getComparisons());
+        assertEquals(0, metric.getMaxDepth());
+        assertTrue(metric.getElapsedMs() >= 0);
+    }
+
+    private void assertSortedBy(Sort sorter, int[] arr) {
+        int[] expected = arr.clone();
+        int[] actual = arr.clone();
+
+        Arrays.sort(expected);
+        sorter.sort(actual, 0, actual.length - 1);
+
+        assertArrayEquals(expected, actual, sorter.getClass().getSimpleName() + " failed");
+    }
+
+    private int[] generateRandomArray(int size, int min, int max) {
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = random.nextInt(max - min + 1) + min;
+        }
+        return arr;
+    }
+
+    private double[][] generateRandomPoints(int n, double min, double max) {
+        double[][] points = new double[n][2];
+        for (int i = 0; i < n; i++) {
+            points[i][0] = min + random.nextDouble() * (max - min);
+            points[i][1] = min + random.nextDouble() * (max - min);
+        }
+        return points;
+    }
+}
@@ -1,8 +1,19 @@
 import cli.BenchmarkRunner;
+import algorithms.DaryMaxHeap;
+import algorithms.IndexedMaxHeap;
+import algorithms.LongIntHeap;
 import algorithms.MaxHeap;
+import algorithms.MultiQueue;
+import algorithms.OffHeapMaxHeap;
 import metrics.PerformanceTracker;
 
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
 public class Main {
+    private record Job(long priority, int id) {}
+
     public static void main(String[] args) {
         PerformanceTracker tracker = new PerformanceTracker();
         BenchmarkRunner runner = new BenchmarkRunner(tracker);
@@ -45,9 +56,249 @@ public class Main {
                     }
                 }
             });
+
+            runner.addBenchmark(new BenchmarkRunner.Benchmark() {
+                @Override
+                public String getName() {
+                    return "MaxHeap_Heapify_" + size;
+                }
+
+                @Override
+                public void run() {
+                    int[] values = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        values[i] = i;
+                    }
+                    MaxHeap.wrap(values);
+                }
+            });
+
+            runner.addBenchmark(new BenchmarkRunner.Benchmark() {
+                @Override
+                public String getName() {
+                    return "MaxHeap_HeapSort_" + size;
+                }
+
+                @Override
+                public void run() {
+                    int[] values = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        values[i] = size - i;
+                    }
+                    MaxHeap.heapSort(values);
+                }
+            });
+
+            runner.addBenchmark(new BenchmarkRunner.Benchmark() {
+                @Override
+                public String getName() {
+                    return "IndexedMaxHeap_IncreaseKey_" + size;
+                }
+
+                @Override
+                public void run() {
+                    IndexedMaxHeap heap = new IndexedMaxHeap();
+                    int[] handles = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        handles[i] = heap.insert(i);
+                    }
+                    for (int i = 0; i < size; i++) {
+                        heap.increaseKey(handles[i], size + i);
+                    }
+                    for (int i = 0; i < size; i++) {
+                        heap.extractMax();
+                    }
+                }
+            });
+        }
+
+        // Arity comparison at 10^6 and 10^7 elements. Larger sizes are opt-in from the command line
+        // (e.g. 1e8), since a 10^8 heap alone takes about 400 MB.
+        BenchmarkRunner largeRunner = new BenchmarkRunner(tracker);
+        largeRunner.setWarmupIterations(1);
+        largeRunner.setMeasurementIterations(3);
+
+        int[] largeSizes = {1_000_000, 10_000_000};
+        if (args.length > 0) {
+            largeSizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                largeSizes[i] = (int) Double.parseDouble(args[i]);
+            }
+        }
+
+        // Every run draws the same keys from a seeded Random instead of keeping an array per size alive.
+        for (int size : largeSizes) {
+            largeRunner.addBenchmark(new BenchmarkRunner.Benchmark() {
+                @Override
+                public String getName() {
+                    return "MaxHeap_InsertExtract_" + size;
+                }
+
+                @Override
+                public void run() {
+                    MaxHeap heap = new MaxHeap(size);
+                    Random random = new Random(42);
+                    for (int i = 0; i < size; i++) {
+                        heap.insert(random.nextInt());
+                    }
+                    for (int i = 0; i < size; i++) {
+                        heap.extractMax();
+                    }
+                }
+            });
+
+            largeRunner.addBenchmark(new BenchmarkRunner.Benchmark() {
+                @Override
+                public String getName() {
+                    return "OffHeapMaxHeap_InsertExtract_" + size;
+                }
+
+                @Override
+                public void run() {
+                    try (OffHeapMaxHeap heap = new OffHeapMaxHeap(size)) {
+                        Random random = new Random(42);
+                        for (int i = 0; i < size; i++) {
+                            heap.insert(random.nextInt());
+                        }
+                        for (int i = 0; i < size; i++) {
+                            heap.extractMax();
+                        }
+                    }
+                }
+            });
+
+            for (int arity : new int[]{2, 4, 8}) {
+                largeRunner.addBenchmark(new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public String getName() {
+                        return "DaryMaxHeap_" + arity + "_InsertExtract_" + size;
+                    }
+
+                    @Override
+                    public void run() {
+                        DaryMaxHeap heap = new DaryMaxHeap(arity, size);
+                        Random random = new Random(42);
+                        for (int i = 0; i < size; i++) {
+                            heap.insert(random.nextInt());
+                        }
+                        for (int i = 0; i < size; i++) {
+                            heap.extractMax();
+                        }
+                    }
+                });
+            }
+        }
+
+        // Throughput and rank error of a global-lock MaxHeap against the sharded MultiQueue.
+        BenchmarkRunner concurrentRunner = new BenchmarkRunner(tracker);
+        concurrentRunner.setWarmupIterations(1);
+        concurrentRunner.setMeasurementIterations(3);
+        concurrentRunner.setThreadCounts(1, 2, 4, 8, 16, 32, 64);
+        concurrentRunner.setOperationsPerThread(100_000);
+
+        concurrentRunner.addConcurrentBenchmark(new BenchmarkRunner.ConcurrentBenchmark() {
+            private MaxHeap heap;
+
+            @Override
+            public String getName() {
+                return "MaxHeap_GlobalLock";
+            }
+
+            @Override
+            public void setUp(int threads, int capacity) {
+                heap = new MaxHeap(capacity);
+            }
+
+            @Override
+            public synchronized void insert(int value) {
+                heap.insert(value);
+            }
+
+            @Override
+            public synchronized int extractMax() {
+                return heap.extractMax();
+            }
+        });
+
+        concurrentRunner.addConcurrentBenchmark(new BenchmarkRunner.ConcurrentBenchmark() {
+            private MultiQueue queue;
+
+            @Override
+            public String getName() {
+                return "MultiQueue";
+            }
+
+            @Override
+            public void setUp(int threads, int capacity) {
+                int shards = 4 * threads;
+                queue = new MultiQueue(shards, 2 * (capacity / shards) + 1024);
+            }
+
+            @Override
+            public void insert(int value) {
+                queue.insert(value);
+            }
+
+            @Override
+            public int extractMax() {
+                return queue.extractMax();
+            }
+        });
+
+        // Job queue of (long priority, int id): primitive arrays against boxed records.
+        BenchmarkRunner jobRunner = new BenchmarkRunner(tracker);
+        jobRunner.setWarmupIterations(3);
+        jobRunner.setMeasurementIterations(5);
+
+        for (int size : new int[]{100_000, 1_000_000}) {
+            long[] priorities = new Random(42).longs(size).toArray();
+
+            jobRunner.addBenchmark(new BenchmarkRunner.Benchmark() {
+                @Override
+                public String getName() {
+                    return "LongIntHeap_Jobs_" + size;
+                }
+
+                @Override
+                public void run() {
+                    LongIntHeap heap = new LongIntHeap(LongIntHeap.Order.MAX, size);
+                    for (int i = 0; i < size; i++) {
+                        heap.insert(priorities[i], i);
+                    }
+                    long checksum = 0;
+                    while (!heap.isEmpty()) {
+                        checksum += heap.poll();
+                    }
+                    if (checksum != (long) size * (size - 1) / 2) throw new AssertionError();
+                }
+            });
+
+            jobRunner.addBenchmark(new BenchmarkRunner.Benchmark() {
+                @Override
+                public String getName() {
+                    return "PriorityQueue_Jobs_" + size;
+                }
+
+                @Override
+                public void run() {
+                    PriorityQueue<Job> queue = new PriorityQueue<>(size,
+                            Comparator.comparingLong(Job::priority).reversed());
+                    for (int i = 0; i < size; i++) {
+                        queue.offer(new Job(priorities[i], i));
+                    }
+                    long checksum = 0;
+                    while (!queue.isEmpty()) {
+                        checksum += queue.poll().id();
+                    }
+                    if (checksum != (long) size * (size - 1) / 2) throw new AssertionError();
+                }
+            });
         }
 
         runner.runAll();
+        jobRunner.runAll();
+        largeRunner.runAll();
+        concurrentRunner.runAll();
 
         tracker.exportToCSV("maxheap_benchmarks");
 
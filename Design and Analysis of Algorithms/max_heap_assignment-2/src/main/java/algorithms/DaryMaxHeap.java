@@ -0,0 +1,117 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Max-heap with 2, 4 or 8 children per node. A wider node makes the tree shallower
+ * and keeps all children of a node in one or two cache lines, so large heaps miss
+ * the cache far less often per level than {@link MaxHeap}. Sifting is iterative and
+ * moves a hole instead of swapping, so each level costs one write. The backing
+ * array doubles when full.
+ */
+public final class DaryMaxHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private final int shift;
+    private int[] heap;
+    private int size;
+
+    public DaryMaxHeap(int arity) {
+        this(arity, DEFAULT_CAPACITY);
+    }
+
+    public DaryMaxHeap(int arity, int initialCapacity) {
+        if (arity != 2 && arity != 4 && arity != 8) {
+            throw new IllegalArgumentException("arity must be 2, 4 or 8");
+        }
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        this.arity = arity;
+        this.shift = Integer.numberOfTrailingZeros(arity);
+        this.heap = new int[initialCapacity];
+    }
+
+    public void insert(int value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+
+        int pos = size++;
+        while (pos > 0) {
+            int parent = (pos - 1) >>> shift;
+            int parentValue = heap[parent];
+            if (parentValue >= value) break;
+            heap[pos] = parentValue;
+            pos = parent;
+        }
+        heap[pos] = value;
+    }
+
+    public int peekMax() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    public int extractMax() {
+        int max = peekMax();
+        int value = heap[--size];
+        if (size == 0) return max;
+
+        int pos = arity == 2 ? siftDownBinary(value) : siftDown(value);
+        heap[pos] = value;
+        return max;
+    }
+
+    // Returns the slot where value belongs once the hole at the root has moved down.
+    private int siftDown(int value) {
+        int pos = 0;
+        int first;
+        while ((first = (pos << shift) + 1) < size) {
+            int last = Math.min(first + arity, size);
+            int best = first;
+            int bestValue = heap[first];
+            for (int child = first + 1; child < last; child++) {
+                int childValue = heap[child];
+                if (childValue > bestValue) {
+                    best = child;
+                    bestValue = childValue;
+                }
+            }
+            if (value >= bestValue) break;
+            heap[pos] = bestValue;
+            pos = best;
+        }
+        return pos;
+    }
+
+    // The generic loop compiles to conditional moves for two children, which serialise the
+    // loads of consecutive levels; a plain branch lets the CPU fetch the next level early.
+    private int siftDownBinary(int value) {
+        int pos = 0;
+        int child;
+        while ((child = 2 * pos + 1) < size) {
+            if (child + 1 < size && heap[child + 1] > heap[child]) child++;
+            int childValue = heap[child];
+            if (value >= childValue) break;
+            heap[pos] = childValue;
+            pos = child;
+        }
+        return pos;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
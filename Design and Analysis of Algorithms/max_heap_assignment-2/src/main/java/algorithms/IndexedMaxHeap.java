@@ -0,0 +1,172 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Growable binary max-heap of int keys addressed by handles. {@link #insert} returns a
+ * handle, and a position index maps each handle to its slot in the heap, so that
+ * {@code increaseKey}, {@code decreaseKey} and {@code remove} run in O(log n) and
+ * {@code contains} in O(1). Storage doubles when full; no other operation allocates.
+ * Handles of removed elements are reused.
+ */
+public final class IndexedMaxHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] heap;
+    private int[] keys;
+    private int[] position;
+    private int[] freeHandles;
+    private int freeCount;
+    private int nextHandle;
+    private int size;
+
+    public IndexedMaxHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IndexedMaxHeap(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        heap = new int[initialCapacity];
+        keys = new int[initialCapacity];
+        position = new int[initialCapacity];
+        freeHandles = new int[initialCapacity];
+    }
+
+    public int insert(int key) {
+        int handle;
+        if (freeCount > 0) {
+            handle = freeHandles[--freeCount];
+        } else {
+            if (nextHandle == keys.length) grow();
+            handle = nextHandle++;
+        }
+
+        keys[handle] = key;
+        siftUp(size++, handle);
+        return handle;
+    }
+
+    public int peekMax() {
+        return keys[peekMaxHandle()];
+    }
+
+    public int peekMaxHandle() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    public int extractMax() {
+        int handle = peekMaxHandle();
+        int key = keys[handle];
+        remove(handle);
+        return key;
+    }
+
+    // Removes the maximum and returns its handle, which may be reused by the next insert.
+    public int extractMaxHandle() {
+        int handle = peekMaxHandle();
+        remove(handle);
+        return handle;
+    }
+
+    public void increaseKey(int handle, int newKey) {
+        checkHandle(handle);
+        if (newKey < keys[handle]) {
+            throw new IllegalArgumentException("New key " + newKey + " is smaller than current key " + keys[handle]);
+        }
+        keys[handle] = newKey;
+        siftUp(position[handle], handle);
+    }
+
+    public void decreaseKey(int handle, int newKey) {
+        checkHandle(handle);
+        if (newKey > keys[handle]) {
+            throw new IllegalArgumentException("New key " + newKey + " is larger than current key " + keys[handle]);
+        }
+        keys[handle] = newKey;
+        siftDown(position[handle], handle);
+    }
+
+    public void remove(int handle) {
+        checkHandle(handle);
+        int pos = position[handle];
+        position[handle] = -1;
+        freeHandles[freeCount++] = handle;
+
+        int last = heap[--size];
+        if (pos == size) return;
+
+        // The last element fills the hole and moves whichever way restores the order.
+        if (pos > 0 && keys[last] > keys[heap[(pos - 1) / 2]]) {
+            siftUp(pos, last);
+        } else {
+            siftDown(pos, last);
+        }
+    }
+
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < nextHandle && position[handle] >= 0;
+    }
+
+    public int key(int handle) {
+        checkHandle(handle);
+        return keys[handle];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Moves the hole at pos towards the root until handle's key fits, then places handle there.
+    private void siftUp(int pos, int handle) {
+        int key = keys[handle];
+        while (pos > 0) {
+            int parent = (pos - 1) / 2;
+            int parentHandle = heap[parent];
+            if (keys[parentHandle] >= key) break;
+            heap[pos] = parentHandle;
+            position[parentHandle] = pos;
+            pos = parent;
+        }
+        heap[pos] = handle;
+        position[handle] = pos;
+    }
+
+    private void siftDown(int pos, int handle) {
+        int key = keys[handle];
+        int half = size / 2;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && keys[heap[child + 1]] > keys[heap[child]]) child++;
+            int childHandle = heap[child];
+            if (key >= keys[childHandle]) break;
+            heap[pos] = childHandle;
+            position[childHandle] = pos;
+            pos = child;
+        }
+        heap[pos] = handle;
+        position[handle] = pos;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        position = Arrays.copyOf(position, capacity);
+        freeHandles = Arrays.copyOf(freeHandles, capacity);
+    }
+
+    private void checkHandle(int handle) {
+        if (!contains(handle)) {
+            throw new IllegalArgumentException("Unknown handle: " + handle);
+        }
+    }
+}
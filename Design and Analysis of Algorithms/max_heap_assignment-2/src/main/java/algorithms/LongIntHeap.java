@@ -0,0 +1,113 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Binary heap of long keys, each carrying an int payload such as a job id. Keys and
+ * payloads sit in parallel primitive arrays, so no operation boxes or allocates
+ * except when the arrays double.
+ *
+ * <p>Both orders share one max-heap: for {@link Order#MIN} keys are stored as
+ * {@code ~key}, which reverses the order of every long without overflow.
+ */
+public final class LongIntHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    public enum Order { MAX, MIN }
+
+    private final Order order;
+    private final long flip;
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    public LongIntHeap(Order order) {
+        this(order, DEFAULT_CAPACITY);
+    }
+
+    public LongIntHeap(Order order, int initialCapacity) {
+        if (order == null) {
+            throw new IllegalArgumentException("order must not be null");
+        }
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        this.order = order;
+        this.flip = order == Order.MIN ? -1L : 0L;
+        this.keys = new long[initialCapacity];
+        this.values = new int[initialCapacity];
+    }
+
+    public void insert(long key, int value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+
+        long stored = key ^ flip;
+        int pos = size++;
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (keys[parent] >= stored) break;
+            keys[pos] = keys[parent];
+            values[pos] = values[parent];
+            pos = parent;
+        }
+        keys[pos] = stored;
+        values[pos] = value;
+    }
+
+    public long peekKey() {
+        checkNotEmpty();
+        return keys[0] ^ flip;
+    }
+
+    public int peekValue() {
+        checkNotEmpty();
+        return values[0];
+    }
+
+    // Removes the top entry and returns its payload; read peekKey first if the key is needed.
+    public int poll() {
+        int top = peekValue();
+        int last = --size;
+        if (last == 0) return top;
+
+        long key = keys[last];
+        int value = values[last];
+        int pos = 0;
+        int child;
+        while ((child = 2 * pos + 1) < last) {
+            if (child + 1 < last && keys[child + 1] > keys[child]) child++;
+            if (key >= keys[child]) break;
+            keys[pos] = keys[child];
+            values[pos] = values[child];
+            pos = child;
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        return top;
+    }
+
+    public Order order() {
+        return order;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+    }
+}
@@ -11,6 +11,41 @@ public final class MaxHeap {
         Heap = new int[this.maxsize];
     }
 
+    private MaxHeap(int[] heap, int size) {
+        this.Heap = heap;
+        this.size = size;
+        this.maxsize = heap.length;
+        buildHeap();
+    }
+
+    // Builds a heap of capacity maxsize from a copy of values in O(n).
+    public static MaxHeap heapify(int[] values, int maxsize) {
+        if (values.length > maxsize) {
+            throw new IllegalArgumentException("maxsize " + maxsize + " is smaller than " + values.length + " values");
+        }
+        int[] heap = new int[maxsize];
+        System.arraycopy(values, 0, heap, 0, values.length);
+        return new MaxHeap(heap, values.length);
+    }
+
+    public static MaxHeap heapify(int[] values) {
+        return heapify(values, values.length);
+    }
+
+    // Builds a full heap inside array itself in O(n); the caller must not touch array afterwards.
+    public static MaxHeap wrap(int[] array) {
+        return new MaxHeap(array, array.length);
+    }
+
+    // Sorts array into ascending order in place, without allocating.
+    public static void heapSort(int[] array) {
+        MaxHeap heap = wrap(array);
+        while (heap.size > 1) {
+            heap.swap(0, --heap.size);
+            heap.maxHeapify(0);
+        }
+    }
+
     private int parent(int pos) {
         return (pos - 1) / 2;
     }
@@ -23,13 +58,6 @@ public final class MaxHeap {
         return (2 * pos) + 2;
     }
 
-    private boolean isLeaf(int pos) {
-        if (pos >= (size / 2) && pos < size) {
-            return true;
-        }
-        return false;
-    }
-
     private void swap(int fpos, int spos) {
         int tmp;
         tmp = Heap[fpos];
@@ -37,28 +65,24 @@ public final class MaxHeap {
         Heap[spos] = tmp;
     }
 
+    // Moves the element at pos down until both children are no larger, shifting children up into the hole.
     private void maxHeapify(int pos) {
-        if (isLeaf(pos)) return;
-
-        int leftChild = leftChild(pos);
-        int rightChild = rightChild(pos);
-
-        boolean needsHeapify = false;
-        if (leftChild < size && Heap[pos] < Heap[leftChild]) {
-            needsHeapify = true;
-        }
-        if (rightChild < size && Heap[pos] < Heap[rightChild]) {
-            needsHeapify = true;
+        int value = Heap[pos];
+        int half = size / 2;
+        while (pos < half) {
+            int child = leftChild(pos);
+            if (child + 1 < size && Heap[child + 1] > Heap[child]) child++;
+            if (value >= Heap[child]) break;
+            Heap[pos] = Heap[child];
+            pos = child;
         }
+        Heap[pos] = value;
+    }
 
-        if (needsHeapify) {
-            if (rightChild >= size || Heap[leftChild] > Heap[rightChild]) {
-                swap(pos, leftChild);
-                maxHeapify(leftChild);
-            } else {
-                swap(pos, rightChild);
-                maxHeapify(rightChild);
-            }
+    // Floyd's bottom-up construction: sift down every internal node, deepest first.
+    private void buildHeap() {
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            maxHeapify(i);
         }
     }
 
@@ -75,6 +99,26 @@ public final class MaxHeap {
     }
 
 
+    // Adds the values that fit into the remaining capacity and returns how many were inserted;
+    // the rest of the batch is dropped. A batch that is large relative to the heap is appended
+    // and the whole heap rebuilt in O(n + k) instead of k sift-ups.
+    public int insertAll(int[] values) {
+        int count = Math.min(values.length, Heap.length - size);
+        int total = size + count;
+        if ((long) count * (32 - Integer.numberOfLeadingZeros(total)) > total) {
+            System.arraycopy(values, 0, Heap, size, count);
+            size = total;
+            buildHeap();
+        } else {
+            for (int i = 0; i < count; i++) {
+                Heap[size] = values[i];
+                heapifyUp(size++);
+            }
+        }
+        return count;
+    }
+
+
     private void heapifyUp(int pos) {
         int current = pos;
         while (current > 0 && Heap[current] > Heap[parent(current)]) {
@@ -99,6 +143,13 @@ public final class MaxHeap {
     }
 
 
+    public int peekMax() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return Heap[0];
+    }
+
     public int extractMax() {
         int popped = Heap[0];
         Heap[0] = Heap[--size];
@@ -106,6 +157,18 @@ public final class MaxHeap {
         return popped;
     }
 
+    // Empties the heap into target in descending order and returns the number of values written.
+    public int drainTo(int[] target) {
+        if (target.length < size) {
+            throw new IllegalArgumentException("target holds " + target.length + " values, heap has " + size);
+        }
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            target[i] = extractMax();
+        }
+        return count;
+    }
+
     public int size() {
         return this.size;
     }
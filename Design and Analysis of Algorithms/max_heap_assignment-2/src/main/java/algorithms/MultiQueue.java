@@ -0,0 +1,180 @@
+package algorithms;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent max-priority queue made of {@link MaxHeap} shards, each guarded by its
+ * own lock. An insert goes to a random shard. An extraction compares the cached tops
+ * of two random shards and removes from the larger one, so it returns a value close
+ * to the maximum but not always the maximum itself. Threads that find a shard locked
+ * pick another one instead of waiting, so throughput keeps growing with the number of
+ * threads as long as there are a few shards per thread.
+ *
+ * <p>In strict mode an extraction locks every shard and returns the exact maximum.
+ * This is meant for tests and for comparing the relaxed mode against an exact queue.
+ */
+public final class MultiQueue {
+    private final Shard[] shards;
+    private final int shardCapacity;
+    private final boolean strict;
+
+    public MultiQueue(int shards, int shardCapacity) {
+        this(shards, shardCapacity, false);
+    }
+
+    public MultiQueue(int shards, int shardCapacity, boolean strict) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("shards must be positive");
+        }
+        if (shardCapacity < 1) {
+            throw new IllegalArgumentException("shardCapacity must be positive");
+        }
+        this.shards = new Shard[shards];
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = new Shard(shardCapacity);
+        }
+        this.shardCapacity = shardCapacity;
+        this.strict = strict;
+    }
+
+    public void insert(int value) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < shards.length; attempt++) {
+            Shard shard = shards[random.nextInt(shards.length)];
+            if (strict) {
+                shard.lock.lock();
+            } else if (!shard.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (shard.size < shardCapacity) {
+                    shard.insert(value);
+                    return;
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        insertAnywhere(value, random.nextInt(shards.length));
+    }
+
+    public int extractMax() {
+        return strict ? extractExact() : extractRelaxed();
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+
+    // Sum of the shard sizes; only exact while no other thread modifies the queue.
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private int extractRelaxed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            Shard a = shards[random.nextInt(shards.length)];
+            Shard b = shards[random.nextInt(shards.length)];
+            Shard shard;
+            if (a.size == 0) {
+                shard = b;
+            } else if (b.size == 0) {
+                shard = a;
+            } else {
+                shard = a.top >= b.top ? a : b;
+            }
+
+            if (shard.size == 0) {
+                // An unlocked pass can miss values moving between shards it has already
+                // counted and ones it has not reached yet, so it only decides that the
+                // queue looks empty. The exact extraction confirms it under all locks.
+                if (isEmpty()) return extractExact();
+                continue;
+            }
+            if (!shard.lock.tryLock()) continue;
+            try {
+                if (shard.size > 0) return shard.extractMax();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    // Locks all shards in index order, so concurrent strict extractions cannot deadlock.
+    private int extractExact() {
+        for (Shard shard : shards) {
+            shard.lock.lock();
+        }
+        try {
+            Shard best = null;
+            for (Shard shard : shards) {
+                if (shard.size > 0 && (best == null || shard.top > best.top)) {
+                    best = shard;
+                }
+            }
+            if (best == null) {
+                throw new IllegalStateException("Queue is empty");
+            }
+            return best.extractMax();
+        } finally {
+            for (Shard shard : shards) {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    // Every random shard we tried was full or busy; walk all shards and wait for each lock.
+    private void insertAnywhere(int value, int start) {
+        for (int i = 0; i < shards.length; i++) {
+            Shard shard = shards[(start + i) % shards.length];
+            shard.lock.lock();
+            try {
+                if (shard.size < shardCapacity) {
+                    shard.insert(value);
+                    return;
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        throw new IllegalStateException("Queue is full, cannot insert " + value);
+    }
+
+    // top and size are written under the lock and read without it to choose a shard.
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final MaxHeap heap;
+        private volatile int top;
+        private volatile int size;
+
+        Shard(int capacity) {
+            heap = new MaxHeap(capacity);
+        }
+
+        void insert(int value) {
+            heap.insert(value);
+            publish();
+        }
+
+        int extractMax() {
+            int value = heap.extractMax();
+            publish();
+            return value;
+        }
+
+        private void publish() {
+            size = heap.size();
+            if (size > 0) top = heap.peekMax();
+        }
+    }
+}
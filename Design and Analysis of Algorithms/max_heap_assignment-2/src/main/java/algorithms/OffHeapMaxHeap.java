@@ -0,0 +1,223 @@
+package algorithms;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary max-heap of long priorities stored outside the Java heap, so billions of
+ * entries add nothing to garbage collection. Indices are longs. When the heap is
+ * full, the segment is replaced by one twice as large and the old one is freed at
+ * once by closing its arena.
+ *
+ * <p>A heap created with {@link #open} lives in a memory-mapped file and grows by
+ * extending and remapping the file. The element count is kept in the file header, so a
+ * restarted process can reopen the queue as it was, without rebuilding it.
+ *
+ * <p>The heap is not synchronized. A shared arena only allows other threads to use it.
+ * Call {@link #close} to release the memory; any later access throws
+ * {@link IllegalStateException}.
+ */
+public final class OffHeapMaxHeap implements AutoCloseable {
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG;
+    private static final long MAGIC = 0x4D41584845415031L;
+    // Slot 0 holds MAGIC and slot 1 the size; entries start at slot 2.
+    private static final long HEADER_SLOTS = 2;
+
+    private final boolean shared;
+    private final FileChannel channel;
+    private Arena arena;
+    private MemorySegment segment;
+    private long capacity;
+    private long size;
+    private boolean closed;
+
+    public OffHeapMaxHeap(long initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    public OffHeapMaxHeap(long initialCapacity, boolean shared) {
+        checkCapacity(initialCapacity);
+        this.shared = shared;
+        this.channel = null;
+        this.arena = newArena();
+        this.segment = arena.allocate(bytes(initialCapacity), Long.BYTES);
+        this.capacity = initialCapacity;
+        segment.setAtIndex(LONG, 0, MAGIC);
+        storeSize();
+    }
+
+    private OffHeapMaxHeap(FileChannel channel, long initialCapacity, boolean shared) throws IOException {
+        this.shared = shared;
+        this.channel = channel;
+
+        long fileSize = channel.size();
+        boolean existing = fileSize > 0;
+        this.capacity = existing ? fileSize / Long.BYTES - HEADER_SLOTS : initialCapacity;
+        this.arena = newArena();
+        this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes(capacity), arena);
+
+        if (existing) {
+            if (capacity < 1 || segment.getAtIndex(LONG, 0) != MAGIC) {
+                arena.close();
+                throw new IOException("Not a heap file");
+            }
+            this.size = segment.getAtIndex(LONG, 1);
+        } else {
+            segment.setAtIndex(LONG, 0, MAGIC);
+            storeSize();
+        }
+    }
+
+    // Opens the heap stored in file, or creates it with initialCapacity if the file is missing or empty.
+    public static OffHeapMaxHeap open(Path file, long initialCapacity) throws IOException {
+        return open(file, initialCapacity, false);
+    }
+
+    public static OffHeapMaxHeap open(Path file, long initialCapacity, boolean shared) throws IOException {
+        checkCapacity(initialCapacity);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new OffHeapMaxHeap(channel, initialCapacity, shared);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void insert(long value) {
+        if (size == capacity) grow();
+
+        long pos = size++;
+        while (pos > 0) {
+            long parent = (pos - 1) >>> 1;
+            long parentValue = get(parent);
+            if (parentValue >= value) break;
+            set(pos, parentValue);
+            pos = parent;
+        }
+        set(pos, value);
+        storeSize();
+    }
+
+    public long peekMax() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return get(0);
+    }
+
+    public long extractMax() {
+        long max = peekMax();
+        long value = get(--size);
+        storeSize();
+        if (size == 0) return max;
+
+        long pos = 0;
+        long child;
+        while ((child = 2 * pos + 1) < size) {
+            long childValue = get(child);
+            if (child + 1 < size) {
+                long rightValue = get(child + 1);
+                if (rightValue > childValue) {
+                    child++;
+                    childValue = rightValue;
+                }
+            }
+            if (value >= childValue) break;
+            set(pos, childValue);
+            pos = child;
+        }
+        set(pos, value);
+        return max;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public boolean isMapped() {
+        return channel != null;
+    }
+
+    // Writes the mapped pages back to the file; a no-op for heaps in memory.
+    public void force() {
+        if (channel != null) segment.force();
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            force();
+            arena.close();
+            if (channel != null) channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void grow() {
+        long newCapacity = capacity * 2;
+        Arena newArena = newArena();
+        MemorySegment grown;
+        try {
+            if (channel != null) {
+                // Mapping past the end extends the file; the entries are already there.
+                grown = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes(newCapacity), newArena);
+            } else {
+                grown = newArena.allocate(bytes(newCapacity), Long.BYTES);
+                MemorySegment.copy(segment, 0, grown, 0, bytes(size));
+            }
+        } catch (IOException e) {
+            newArena.close();
+            throw new UncheckedIOException(e);
+        }
+
+        arena.close();
+        arena = newArena;
+        segment = grown;
+        capacity = newCapacity;
+    }
+
+    private Arena newArena() {
+        return shared ? Arena.ofShared() : Arena.ofConfined();
+    }
+
+    private long get(long index) {
+        return segment.getAtIndex(LONG, HEADER_SLOTS + index);
+    }
+
+    private void set(long index, long value) {
+        segment.setAtIndex(LONG, HEADER_SLOTS + index, value);
+    }
+
+    private void storeSize() {
+        segment.setAtIndex(LONG, 1, size);
+    }
+
+    private static long bytes(long entries) {
+        return (HEADER_SLOTS + entries) * Long.BYTES;
+    }
+
+    private static void checkCapacity(long initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+    }
+}
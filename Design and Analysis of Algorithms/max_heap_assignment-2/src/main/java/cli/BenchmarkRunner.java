@@ -3,15 +3,24 @@ package cli;
 import metrics.PerformanceTracker;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public final class BenchmarkRunner {
     private final List<Benchmark> benchmarks;
+    private final List<ConcurrentBenchmark> concurrentBenchmarks;
     private final PerformanceTracker tracker;
     private int warmupIterations = 3;
     private int measurementIterations = 10;
+    private int[] threadCounts = {1, 2, 4, 8, 16, 32, 64};
+    private int operationsPerThread = 100_000;
 
     public BenchmarkRunner(PerformanceTracker tracker) {
         this.benchmarks = new ArrayList<>();
+        this.concurrentBenchmarks = new ArrayList<>();
         this.tracker = tracker;
     }
 
@@ -23,14 +32,31 @@ public final class BenchmarkRunner {
         this.measurementIterations = measurementIterations;
     }
 
+    public void setThreadCounts(int... threadCounts) {
+        this.threadCounts = threadCounts.clone();
+    }
+
+    public void setOperationsPerThread(int operationsPerThread) {
+        this.operationsPerThread = operationsPerThread;
+    }
+
     public void addBenchmark(Benchmark benchmark) {
         benchmarks.add(benchmark);
     }
 
+    public void addConcurrentBenchmark(ConcurrentBenchmark benchmark) {
+        concurrentBenchmarks.add(benchmark);
+    }
+
     public void runAll() {
         for (Benchmark benchmark : benchmarks) {
             runBenchmark(benchmark);
         }
+        for (ConcurrentBenchmark benchmark : concurrentBenchmarks) {
+            for (int threads : threadCounts) {
+                runConcurrentBenchmark(benchmark, threads);
+            }
+        }
     }
 
     private void runBenchmark(Benchmark benchmark) {
@@ -61,8 +87,160 @@ public final class BenchmarkRunner {
                 average / 1_000_000.0, min / 1_000_000.0, max / 1_000_000.0);
     }
 
+    private void runConcurrentBenchmark(ConcurrentBenchmark benchmark, int threads) {
+        String name = benchmark.getName() + "_" + threads + "T";
+        System.out.println("Running benchmark: " + name);
+
+        System.out.println("Warming up...");
+        for (int i = 0; i < warmupIterations; i++) {
+            runMixedWorkload(benchmark, threads);
+        }
+
+        System.out.println("Measuring...");
+        long[] times = new long[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            times[i] = runMixedWorkload(benchmark, threads);
+        }
+
+        long sum = 0, min = Long.MAX_VALUE, max = 0;
+        for (long time : times) {
+            sum += time;
+            min = Math.min(min, time);
+            max = Math.max(max, time);
+        }
+        double average = (double) sum / times.length;
+        tracker.recordMetric(name, average, min, max, measurementIterations);
+
+        double[] rankError = measureRankError(benchmark, threads);
+        double throughput = (double) threads * operationsPerThread / (average / 1_000_000_000.0);
+        System.out.printf("Average: %.3f ms, Throughput: %.0f ops/s, Rank error: mean %.2f, max %.0f%n%n",
+                average / 1_000_000.0, throughput, rankError[0], rankError[1]);
+    }
+
+    // Each thread alternates insert and extractMax on a queue prefilled so that it never runs dry.
+    private long runMixedWorkload(ConcurrentBenchmark benchmark, int threads) {
+        int prefill = Math.max(1 << 16, operationsPerThread);
+        benchmark.setUp(threads, prefill + threads * operationsPerThread);
+        Random random = new Random(42);
+        for (int i = 0; i < prefill; i++) {
+            benchmark.insert(random.nextInt());
+        }
+
+        return runThreads(threads, thread -> {
+            SplittableRandom local = new SplittableRandom(thread);
+            for (int i = 0; i < operationsPerThread; i += 2) {
+                benchmark.insert(local.nextInt());
+                benchmark.extractMax();
+            }
+        });
+    }
+
+    /**
+     * Fills the queue with the keys 0..n-1 and lets all threads drain it. The rank error
+     * of an extraction is the number of larger keys still in the queue at that moment,
+     * with extractions ordered by when they completed. Returns the mean and the maximum.
+     */
+    private double[] measureRankError(ConcurrentBenchmark benchmark, int threads) {
+        int perThread = Math.max(1, Math.min(operationsPerThread, (1 << 22) / threads));
+        int n = perThread * threads;
+        benchmark.setUp(threads, n);
+
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i;
+        }
+        Random random = new Random(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        for (int key : keys) {
+            benchmark.insert(key);
+        }
+
+        int[] order = new int[n];
+        AtomicInteger sequence = new AtomicInteger();
+        runThreads(threads, thread -> {
+            for (int i = 0; i < perThread; i++) {
+                int key = benchmark.extractMax();
+                order[sequence.getAndIncrement()] = key;
+            }
+        });
+
+        // Fenwick tree over the keys already extracted.
+        int[] tree = new int[n + 1];
+        long total = 0;
+        int worst = 0;
+        for (int i = 0; i < n; i++) {
+            int key = order[i];
+            int extractedUpToKey = 0;
+            for (int j = key + 1; j > 0; j -= j & -j) {
+                extractedUpToKey += tree[j];
+            }
+            int rank = (n - 1 - key) - (i - extractedUpToKey);
+            total += rank;
+            worst = Math.max(worst, rank);
+            for (int j = key + 1; j <= n; j += j & -j) {
+                tree[j]++;
+            }
+        }
+        return new double[]{(double) total / n, worst};
+    }
+
+    // Starts all workers together and returns the time until the last one finishes.
+    // The first failure in any worker is rethrown here, so a failed run is never recorded.
+    private long runThreads(int threads, Worker worker) {
+        CyclicBarrier barrier = new CyclicBarrier(threads + 1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    barrier.await();
+                    worker.run(thread);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            workers[t].start();
+        }
+
+        long elapsed;
+        try {
+            barrier.await();
+            long startTime = System.nanoTime();
+            for (Thread thread : workers) {
+                thread.join();
+            }
+            elapsed = System.nanoTime() - startTime;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException e) throw e;
+        if (error instanceof Error e) throw e;
+        if (error != null) throw new RuntimeException(error);
+        return elapsed;
+    }
+
     public interface Benchmark {
         String getName();
         void run();
     }
+
+    // A thread-safe max-priority queue; setUp creates a fresh one before every run.
+    public interface ConcurrentBenchmark {
+        String getName();
+        void setUp(int threads, int capacity);
+        void insert(int value);
+        int extractMax();
+    }
+
+    private interface Worker {
+        void run(int thread) throws Exception;
+    }
 }
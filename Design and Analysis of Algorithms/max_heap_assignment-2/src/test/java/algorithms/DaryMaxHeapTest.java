@@ -0,0 +1,68 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class DaryMaxHeapTest {
+    private static final int[] ARITIES = {2, 4, 8};
+
+    @Test
+    @DisplayName("Test extraction order for every arity")
+    void testExtractionOrder() {
+        Random random = new Random(42);
+        int[] values = new int[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(2000) - 1000;
+        }
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        for (int arity : ARITIES) {
+            DaryMaxHeap heap = new DaryMaxHeap(arity, 1);
+            for (int value : values) {
+                heap.insert(value);
+            }
+            assertEquals(values.length, heap.size());
+
+            for (int i = expected.length - 1; i >= 0; i--) {
+                assertEquals(expected[i], heap.extractMax(), "arity " + arity);
+            }
+            assertTrue(heap.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Test alternating insert and extract operations")
+    void testAlternatingOperations() {
+        for (int arity : ARITIES) {
+            DaryMaxHeap heap = new DaryMaxHeap(arity);
+            heap.insert(10);
+            heap.insert(5);
+            assertEquals(10, heap.extractMax());
+
+            heap.insert(15);
+            heap.insert(8);
+            heap.insert(8);
+            assertEquals(15, heap.peekMax());
+            assertEquals(15, heap.extractMax());
+            assertEquals(8, heap.extractMax());
+            assertEquals(8, heap.extractMax());
+            assertEquals(5, heap.extractMax());
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid arity and empty heap")
+    void testInvalidOperations() {
+        assertThrows(IllegalArgumentException.class, () -> new DaryMaxHeap(3));
+        assertThrows(IllegalArgumentException.class, () -> new DaryMaxHeap(4, 0));
+
+        DaryMaxHeap heap = new DaryMaxHeap(4);
+        assertThrows(IllegalStateException.class, heap::extractMax);
+        assertEquals(4, heap.arity());
+    }
+}
@@ -0,0 +1,127 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class IndexedMaxHeapTest {
+    private IndexedMaxHeap heap;
+
+    @BeforeEach
+    void setUp() {
+        heap = new IndexedMaxHeap(2);
+    }
+
+    @Test
+    @DisplayName("Test growth beyond initial capacity")
+    void testGrowth() {
+        for (int i = 0; i < 1000; i++) {
+            heap.insert(i);
+        }
+        assertEquals(1000, heap.size());
+
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(i, heap.extractMax());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test increaseKey and decreaseKey move elements")
+    void testChangeKey() {
+        int a = heap.insert(10);
+        int b = heap.insert(20);
+        int c = heap.insert(30);
+
+        heap.increaseKey(a, 40);
+        assertEquals(a, heap.peekMaxHandle());
+        assertEquals(40, heap.key(a));
+
+        heap.decreaseKey(a, 5);
+        assertEquals(c, heap.peekMaxHandle());
+
+        heap.decreaseKey(c, 15);
+        assertEquals(b, heap.extractMaxHandle());
+        assertEquals(15, heap.extractMax());
+        assertEquals(5, heap.extractMax());
+    }
+
+    @Test
+    @DisplayName("Test remove and contains by handle")
+    void testRemove() {
+        int a = heap.insert(1);
+        int b = heap.insert(2);
+        int c = heap.insert(3);
+
+        heap.remove(b);
+        assertFalse(heap.contains(b));
+        assertTrue(heap.contains(a));
+        assertTrue(heap.contains(c));
+        assertEquals(2, heap.size());
+
+        heap.remove(c);
+        assertEquals(1, heap.peekMax());
+        assertFalse(heap.contains(-1));
+        assertFalse(heap.contains(100));
+    }
+
+    @Test
+    @DisplayName("Test invalid operations")
+    void testInvalidOperations() {
+        int a = heap.insert(10);
+
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(a, 5));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(a, 15));
+        heap.remove(a);
+        assertThrows(IllegalArgumentException.class, () -> heap.remove(a));
+        assertThrows(IllegalArgumentException.class, () -> heap.key(a));
+        assertThrows(IllegalStateException.class, () -> heap.extractMax());
+        assertThrows(IllegalArgumentException.class, () -> new IndexedMaxHeap(0));
+    }
+
+    @Test
+    @DisplayName("Test random operations against a reference map")
+    void testRandomOperations() {
+        Random random = new Random(42);
+        Map<Integer, Integer> reference = new HashMap<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(5);
+            if (reference.isEmpty() || operation == 0) {
+                int key = random.nextInt(1000);
+                int handle = heap.insert(key);
+                assertNull(reference.put(handle, key));
+            } else {
+                int handle = reference.keySet().stream().skip(random.nextInt(reference.size())).findFirst().orElseThrow();
+                int key = reference.get(handle);
+                if (operation == 1) {
+                    heap.increaseKey(handle, key + random.nextInt(100));
+                    reference.put(handle, heap.key(handle));
+                } else if (operation == 2) {
+                    heap.decreaseKey(handle, key - random.nextInt(100));
+                    reference.put(handle, heap.key(handle));
+                } else if (operation == 3) {
+                    heap.remove(handle);
+                    reference.remove(handle);
+                } else {
+                    int max = reference.values().stream().max(Integer::compare).orElseThrow();
+                    assertEquals(max, heap.peekMax());
+                    reference.remove(heap.extractMaxHandle());
+                }
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+
+        int prev = Integer.MAX_VALUE;
+        while (!heap.isEmpty()) {
+            int current = heap.extractMax();
+            assertTrue(current <= prev, "Heap property violated");
+            prev = current;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class LongIntHeapTest {
+
+    @Test
+    @DisplayName("Test payloads follow their keys in both orders")
+    void testKeyPayloadOrder() {
+        Random random = new Random(42);
+        int n = 5000;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextLong();
+        }
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+
+        LongIntHeap max = new LongIntHeap(LongIntHeap.Order.MAX, 1);
+        LongIntHeap min = new LongIntHeap(LongIntHeap.Order.MIN);
+        for (int i = 0; i < n; i++) {
+            max.insert(keys[i], i);
+            min.insert(keys[i], i);
+        }
+        assertEquals(n, max.size());
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(sorted[n - 1 - i], max.peekKey());
+            assertEquals(max.peekKey(), keys[max.poll()]);
+
+            assertEquals(sorted[i], min.peekKey());
+            assertEquals(min.peekKey(), keys[min.poll()]);
+        }
+        assertTrue(max.isEmpty());
+        assertTrue(min.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test extreme keys and duplicates")
+    void testExtremeKeys() {
+        LongIntHeap heap = new LongIntHeap(LongIntHeap.Order.MIN);
+        heap.insert(Long.MAX_VALUE, 1);
+        heap.insert(0, 2);
+        heap.insert(Long.MIN_VALUE, 3);
+        heap.insert(0, 4);
+
+        assertEquals(Long.MIN_VALUE, heap.peekKey());
+        assertEquals(3, heap.poll());
+        assertEquals(0, heap.peekKey());
+        int first = heap.poll();
+        int second = heap.poll();
+        assertEquals(6, first + second);
+        assertEquals(Long.MAX_VALUE, heap.peekKey());
+        assertEquals(1, heap.peekValue());
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test invalid operations")
+    void testInvalidOperations() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHeap(null));
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHeap(LongIntHeap.Order.MAX, 0));
+
+        LongIntHeap heap = new LongIntHeap(LongIntHeap.Order.MAX);
+        assertEquals(LongIntHeap.Order.MAX, heap.order());
+        assertThrows(IllegalStateException.class, heap::peekKey);
+        assertThrows(IllegalStateException.class, heap::peekValue);
+        assertThrows(IllegalStateException.class, heap::poll);
+    }
+}
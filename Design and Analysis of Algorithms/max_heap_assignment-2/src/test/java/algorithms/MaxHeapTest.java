@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Random;
+
 public class MaxHeapTest {
     private MaxHeap heap;
 
@@ -193,4 +196,75 @@ public class MaxHeapTest {
             assertEquals(i, heap.size());
         }
     }
+
+    @Test
+    @DisplayName("Test heapify copies and wrap reuses the array")
+    void testHeapifyAndWrap() {
+        int[] values = {3, 9, 1, 7, 5, 9, -2};
+
+        MaxHeap copied = MaxHeap.heapify(values, 10);
+        assertEquals(7, copied.size());
+        copied.insert(100);
+        assertEquals(100, copied.extractMax());
+        assertArrayEquals(new int[]{3, 9, 1, 7, 5, 9, -2}, values);
+
+        MaxHeap wrapped = MaxHeap.wrap(values);
+        assertEquals(9, values[0]);
+        int[] expected = {9, 9, 7, 5, 3, 1, -2};
+        for (int expectedValue : expected) {
+            assertEquals(expectedValue, wrapped.extractMax());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> MaxHeap.heapify(new int[5], 4));
+    }
+
+    @Test
+    @DisplayName("Test insertAll with small and large batches")
+    void testInsertAll() {
+        heap.insert(50);
+        heap.insert(20);
+        assertEquals(1, heap.insertAll(new int[]{30}));
+        assertEquals(5, heap.insertAll(new int[]{60, 10, 40, 70, 0}));
+        assertEquals(8, heap.size());
+
+        // Only two slots are left, the rest of the batch is dropped like in insert
+        assertEquals(2, heap.insertAll(new int[]{80, 90, 100}));
+        assertEquals(10, heap.size());
+        assertEquals(0, heap.insertAll(new int[]{110}));
+
+        int[] expected = {90, 80, 70, 60, 50, 40, 30, 20, 10, 0};
+        for (int expectedValue : expected) {
+            assertEquals(expectedValue, heap.extractMax());
+        }
+    }
+
+    @Test
+    @DisplayName("Test in-place heapsort")
+    void testHeapSort() {
+        Random random = new Random(42);
+        for (int n : new int[]{0, 1, 2, 17, 10_000}) {
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt(1000) - 500;
+            }
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+
+            MaxHeap.heapSort(values);
+            assertArrayEquals(expected, values);
+        }
+    }
+
+    @Test
+    @DisplayName("Test drainTo empties the heap in descending order")
+    void testDrainTo() {
+        heap.insertAll(new int[]{4, 8, 1, 8, 6});
+
+        assertThrows(IllegalArgumentException.class, () -> heap.drainTo(new int[4]));
+
+        int[] target = new int[6];
+        assertEquals(5, heap.drainTo(target));
+        assertArrayEquals(new int[]{8, 8, 6, 4, 1, 0}, target);
+        assertTrue(heap.isEmpty());
+    }
 }
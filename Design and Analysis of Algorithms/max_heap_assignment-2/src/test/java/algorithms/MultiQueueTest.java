@@ -0,0 +1,103 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class MultiQueueTest {
+
+    @Test
+    @DisplayName("Test strict mode extracts in exact order")
+    void testStrictOrder() {
+        MultiQueue queue = new MultiQueue(8, 1000, true);
+        Random random = new Random(42);
+        int[] values = new int[2000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(500);
+            queue.insert(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertTrue(queue.isStrict());
+        assertEquals(values.length, queue.size());
+        for (int i = values.length - 1; i >= 0; i--) {
+            assertEquals(values[i], queue.extractMax());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test relaxed mode returns every value once")
+    void testRelaxedReturnsAllValues() {
+        MultiQueue queue = new MultiQueue(4, 100);
+        for (int i = 0; i < 400; i++) {
+            queue.insert(i);
+        }
+
+        // Shards are filled unevenly, so full ones must be skipped
+        assertThrows(IllegalStateException.class, () -> queue.insert(400));
+
+        boolean[] seen = new boolean[400];
+        for (int i = 0; i < 400; i++) {
+            int value = queue.extractMax();
+            assertFalse(seen[value], "Duplicate value " + value);
+            seen[value] = true;
+        }
+        assertThrows(IllegalStateException.class, queue::extractMax);
+    }
+
+    @Test
+    @DisplayName("Test concurrent inserts and extractions lose nothing")
+    void testConcurrentOperations() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        for (boolean strict : new boolean[]{false, true}) {
+            MultiQueue queue = new MultiQueue(16, threads * perThread, strict);
+            long[] extractedSums = new long[threads];
+            List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                workers[t] = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < perThread; i++) {
+                            queue.insert(thread * perThread + i);
+                            if (i % 2 == 1) {
+                                extractedSums[thread] += queue.extractMax();
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+                workers[t].start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            assertTrue(failures.isEmpty(), "Worker failed: " + failures);
+
+            long sum = Arrays.stream(extractedSums).sum();
+            assertEquals(threads * perThread / 2, queue.size());
+            while (!queue.isEmpty()) {
+                sum += queue.extractMax();
+            }
+            long n = (long) threads * perThread;
+            assertEquals(n * (n - 1) / 2, sum);
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid construction")
+    void testInvalidConstruction() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiQueue(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new MultiQueue(4, 0));
+    }
+}
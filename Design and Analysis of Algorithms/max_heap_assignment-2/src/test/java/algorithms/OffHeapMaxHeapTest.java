@@ -0,0 +1,96 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+public class OffHeapMaxHeapTest {
+
+    @Test
+    @DisplayName("Test extraction order with growth")
+    void testExtractionOrder() {
+        Random random = new Random(42);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong() % 1000;
+        }
+        long[] expected = values.clone();
+        Arrays.sort(expected);
+
+        try (OffHeapMaxHeap heap = new OffHeapMaxHeap(1)) {
+            for (long value : values) {
+                heap.insert(value);
+            }
+            assertEquals(values.length, heap.size());
+            assertTrue(heap.capacity() >= values.length);
+
+            for (int i = expected.length - 1; i >= 0; i--) {
+                assertEquals(expected[i], heap.extractMax());
+            }
+            assertTrue(heap.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Test int and long priorities together")
+    void testMixedPriorities() {
+        try (OffHeapMaxHeap heap = new OffHeapMaxHeap(4, true)) {
+            heap.insert(5);
+            heap.insert(Long.MAX_VALUE);
+            heap.insert(-3_000_000_000L);
+            heap.insert(Integer.MAX_VALUE);
+
+            assertEquals(Long.MAX_VALUE, heap.peekMax());
+            assertEquals(Long.MAX_VALUE, heap.extractMax());
+            assertEquals(Integer.MAX_VALUE, heap.extractMax());
+            assertEquals(5, heap.extractMax());
+            assertEquals(-3_000_000_000L, heap.extractMax());
+        }
+    }
+
+    @Test
+    @DisplayName("Test mapped heap survives reopening")
+    void testReopenMappedFile() throws IOException {
+        Path file = Files.createTempFile("maxheap", ".bin");
+        try {
+            try (OffHeapMaxHeap heap = OffHeapMaxHeap.open(file, 2)) {
+                assertTrue(heap.isMapped());
+                for (int i = 0; i < 100; i++) {
+                    heap.insert(i);
+                }
+                assertEquals(99, heap.extractMax());
+            }
+
+            try (OffHeapMaxHeap heap = OffHeapMaxHeap.open(file, 2)) {
+                assertEquals(99, heap.size());
+                for (int i = 98; i >= 0; i--) {
+                    assertEquals(i, heap.extractMax());
+                }
+            }
+
+            Files.write(file, new byte[64]);
+            assertThrows(IOException.class, () -> OffHeapMaxHeap.open(file, 2));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid operations")
+    void testInvalidOperations() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMaxHeap(0));
+
+        OffHeapMaxHeap heap = new OffHeapMaxHeap(8);
+        assertThrows(IllegalStateException.class, heap::extractMax);
+        heap.insert(1);
+        heap.close();
+        heap.close();
+        assertThrows(IllegalStateException.class, () -> heap.insert(2));
+    }
+}